@@ -0,0 +1,125 @@
+package com.dev.ticketing_system.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계별 정합성 검사 (발생기가 받은 응답 기준)
+ * - WAIT: 순번 조회에서 입장 가능으로 나왔는데 입장권 발급이 거절됨
+ * - HOLD: 다른 유저가 선점 중(해제 / 만료 전)인 좌석에 선점 성공 응답 → 이중 선점
+ * - PAY : 같은 좌석에 두 유저의 결제가 접수됨 → 이중 판매
+ * - 종료 후: 최종 SOLD 좌석과 결제 접수 좌석 비교 (결제 없이 팔린 좌석 = 초과 판매, 접수됐는데 안 팔린 좌석 = 결제 유실)
+ */
+public class CorrectnessChecker {
+
+    private static final int MAX_SAMPLES = 20;
+
+    private final Duration holdTtl;
+    private final Map<Long, Holder> holders = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> paidBy = new ConcurrentHashMap<>();
+    private final Map<Phase, LongAdder> violations = new EnumMap<>(Phase.class);
+    private final List<String> samples = new CopyOnWriteArrayList<>();
+
+    private Set<Long> initiallySold = Set.of();
+    private Set<Long> phantomSold = Set.of();
+    private Set<Long> lostPayments = Set.of();
+
+    private record Holder(String userId, long heldAtMillis, boolean released) {
+    }
+
+    public CorrectnessChecker(Duration holdTtl) {
+        this.holdTtl = holdTtl;
+        for (Phase phase : Phase.values()) {
+            violations.put(phase, new LongAdder());
+        }
+    }
+
+    public void setInitiallySold(Set<Long> seatIds) {
+        this.initiallySold = Set.copyOf(seatIds);
+    }
+
+    public void onPassRefused(String userId) {
+        violation(Phase.WAIT, "입장 가능 응답 후 입장권 거절: userId=" + userId);
+    }
+
+    public void onHeld(long seatId, String userId) {
+        long now = System.currentTimeMillis();
+        holders.compute(seatId, (id, prev) -> {
+            if (prev != null && !prev.released() && !prev.userId().equals(userId)
+                    && now - prev.heldAtMillis() < holdTtl.toMillis()) {
+                violation(Phase.HOLD, "이중 선점: seatId=" + seatId + ", " + prev.userId() + " / " + userId);
+            }
+            return new Holder(userId, now, false);
+        });
+    }
+
+    /**
+     * 해제 요청을 보내기 "전" 에 호출 (해제 직후 다른 유저의 선점 성공이 먼저 기록되어도 오탐하지 않도록)
+     */
+    public void onReleasing(long seatId, String userId) {
+        holders.computeIfPresent(seatId, (id, holder) ->
+                holder.userId().equals(userId) ? new Holder(userId, holder.heldAtMillis(), true) : holder);
+    }
+
+    public void onPaid(long seatId, String userId) {
+        Set<String> users = paidBy.computeIfAbsent(seatId, id -> ConcurrentHashMap.newKeySet());
+        users.add(userId);
+        if (users.size() > 1) {
+            violation(Phase.PAY, "이중 판매: seatId=" + seatId + ", users=" + users);
+        }
+    }
+
+    public Set<Long> paidSeats() {
+        return paidBy.keySet();
+    }
+
+    /**
+     * 결제 처리(Kafka 컨슈머)가 끝난 뒤의 최종 SOLD 좌석으로 검사
+     */
+    public void verifyFinal(Set<Long> soldSeats) {
+        Set<Long> phantom = new HashSet<>(soldSeats);
+        phantom.removeAll(initiallySold);
+        phantom.removeAll(paidBy.keySet());
+
+        Set<Long> lost = new HashSet<>(paidBy.keySet());
+        lost.removeAll(soldSeats);
+
+        phantomSold = phantom;
+        lostPayments = lost;
+    }
+
+    public boolean passed() {
+        return violations.values().stream().allMatch(count -> count.sum() == 0) && phantomSold.isEmpty() && lostPayments.isEmpty();
+    }
+
+    public void print(PrintStream out) {
+        out.println();
+        out.println("[정합성]");
+        violations.forEach((phase, count) -> out.printf("  %-5s 위반 %d건%n", phase, count.sum()));
+        out.printf("  결제 접수 좌석 %d석, 결제 없이 SOLD(초과 판매) %d석, 접수 후 미반영(유실) %d석%n",
+                paidBy.size(), phantomSold.size(), lostPayments.size());
+        if (!phantomSold.isEmpty()) {
+            out.println("  초과 판매 좌석 예: " + phantomSold.stream().limit(MAX_SAMPLES).toList());
+        }
+        if (!lostPayments.isEmpty()) {
+            out.println("  유실 좌석 예: " + lostPayments.stream().limit(MAX_SAMPLES).toList());
+        }
+        samples.forEach(sample -> out.println("  - " + sample));
+        out.println(passed() ? "  => PASS" : "  => FAIL");
+    }
+
+    private void violation(Phase phase, String message) {
+        violations.get(phase).increment();
+        if (samples.size() < MAX_SAMPLES) {
+            samples.add(phase + " " + message);
+        }
+    }
+}
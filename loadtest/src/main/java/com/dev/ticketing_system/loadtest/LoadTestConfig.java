@@ -0,0 +1,63 @@
+package com.dev.ticketing_system.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 시나리오 설정 (--key=value 인자)
+ * - stack: external(이미 떠 있는 앱에 요청) / containers(Redis·Kafka·MySQL 컨테이너 + 앱 jar 직접 실행)
+ * - users 명이 arrival-seconds 동안 포아송 분포로 도착 (open-loop: 응답이 느려져도 도착 속도는 그대로)
+ * - hot-section / hot-ratio: 앞쪽 좌석 hot-section 비율 구간에 hot-ratio 확률로 몰림 (인기 구역 경합)
+ * - abandon-ratio: 좌석 선점 후 결제하지 않고 취소하는 비율
+ * - threads: containers 스택의 앱 실행 모드 (platform / virtual / both: 모드마다 새 스택으로 같은 시나리오를 돌려 비교)
+ */
+public record LoadTestConfig(
+        String stack,
+        String target,
+        String appJar,
+        String threads,
+        long concertId,
+        int users,
+        Duration arrivalWindow,
+        Duration pollInterval,
+        Duration queueTimeout,
+        int maxHoldAttempts,
+        double hotSection,
+        double hotRatio,
+        double abandonRatio,
+        Duration thinkTime,
+        Duration drainTimeout,
+        long seed
+) {
+
+    public static LoadTestConfig fromArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자 형식은 --key=value 입니다: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        return new LoadTestConfig(
+                options.getOrDefault("stack", "external"),
+                options.getOrDefault("target", "http://localhost:8083"),
+                options.getOrDefault("app-jar", "build/libs/ticketing-system-0.0.1-SNAPSHOT.jar"),
+                options.getOrDefault("threads", "platform"),
+                Long.parseLong(options.getOrDefault("concert-id", "1")),
+                Integer.parseInt(options.getOrDefault("users", "2000")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("arrival-seconds", "10"))),
+                Duration.ofMillis(Long.parseLong(options.getOrDefault("poll-ms", "1000"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("queue-timeout-seconds", "300"))),
+                Integer.parseInt(options.getOrDefault("max-hold-attempts", "3")),
+                Double.parseDouble(options.getOrDefault("hot-section", "0.1")),
+                Double.parseDouble(options.getOrDefault("hot-ratio", "0.7")),
+                Double.parseDouble(options.getOrDefault("abandon-ratio", "0.2")),
+                Duration.ofMillis(Long.parseLong(options.getOrDefault("think-ms", "500"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("drain-seconds", "60"))),
+                Long.parseLong(options.getOrDefault("seed", "42"))
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package com.dev.ticketing_system.loadtest;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 부하 테스트 진입점
+ * <pre>
+ * # 이미 떠 있는 앱 (docker-compose 등) 대상
+ * ./gradlew :loadtest:run --args="--target=http://localhost:8083 --users=5000 --arrival-seconds=10"
+ *
+ * # 컨테이너(Redis / Kafka / MySQL) + 앱 jar 를 직접 띄워서 실행
+ * ./gradlew :loadtest:run --args="--stack=containers --users=2000"
+ *
+ * # 플랫폼 스레드 / 가상 스레드 모드 비교 (모드마다 새 스택, 동시 접속 10k)
+ * ./gradlew :loadtest:run --args="--stack=containers --threads=both --users=10000 --arrival-seconds=5"
+ * </pre>
+ * 정합성 위반 / 오류가 있으면 종료 코드 1
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+
+        if (!"containers".equals(config.stack())) {
+            System.exit(run(config, config.target()).passed() ? 0 : 1);
+        }
+
+        List<String> modes = "both".equals(config.threads()) ? List.of("platform", "virtual") : List.of(config.threads());
+        Map<String, OnSaleScenario> results = new LinkedHashMap<>();
+        for (String mode : modes) {
+            System.out.printf("%n========== threads=%s ==========%n", mode);
+            try (LocalStack stack = new LocalStack()) {
+                results.put(mode, run(config, stack.start(config.appJar(), "virtual".equals(mode))));
+            }
+        }
+        if (results.size() > 1) {
+            printComparison(results, System.out);
+        }
+        System.exit(results.values().stream().allMatch(OnSaleScenario::passed) ? 0 : 1);
+    }
+
+    private static OnSaleScenario run(LoadTestConfig config, String target) {
+        OnSaleScenario scenario = new OnSaleScenario(config, new TicketingClient(target));
+        long startedAt = System.nanoTime();
+        scenario.run();
+        System.out.printf("%n[LoadTest] 대상=%s, 소요 %.1fs%n", target, (System.nanoTime() - startedAt) / 1e9);
+        scenario.print(System.out);
+        return scenario;
+    }
+
+    private static void printComparison(Map<String, OnSaleScenario> results, PrintStream out) {
+        TreeSet<String> operations = new TreeSet<>();
+        results.values().forEach(result -> operations.addAll(result.metrics().summaries().keySet()));
+
+        out.println();
+        out.println("[실행 모드 비교] p50 / p99 (ms), 오류 수");
+        out.printf("%-16s", "operation");
+        results.keySet().forEach(mode -> out.printf(" %28s", mode));
+        out.println();
+        for (String operation : operations) {
+            out.printf("%-16s", operation);
+            results.values().forEach(result -> {
+                Metrics.Summary summary = result.metrics().summaries().get(operation);
+                out.printf(" %28s", summary == null ? "-"
+                        : String.format("%.1f / %.1f, err=%d", summary.p50Millis(), summary.p99Millis(), summary.errors()));
+            });
+            out.println();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.dev.ticketing_system.loadtest;
+
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.kafka.ConfluentKafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * --stack=containers: docker-compose 없이 로컬 컨테이너(Redis / Kafka / MySQL) + 앱 jar 프로세스로 테스트 환경 구성
+ * - 앱은 부하 테스트용 설정으로 실행 (요청 제한 해제, 캡차 load-test 모드, 스키마 자동 생성), 가상 스레드 모드 선택 가능
+ * - 앱 로그는 build/loadtest-app-{platform|virtual}.log 로 저장
+ */
+public class LocalStack implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final MySQLContainer<?> mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("ticketing")
+            .withCommand("--max_connections=300");
+    private final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7"))
+            .withExposedPorts(6379);
+    private final ConfluentKafkaContainer kafka = new ConfluentKafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.5.0"));
+
+    private Process app;
+    private String baseUrl;
+
+    public String start(String appJar, boolean virtualThreads) throws IOException, InterruptedException {
+        File jar = new File(appJar);
+        if (!jar.isFile()) {
+            throw new IllegalArgumentException("앱 jar 가 없습니다 (./gradlew bootJar 먼저 실행): " + jar.getAbsolutePath());
+        }
+
+        mysql.start();
+        redis.start();
+        kafka.start();
+
+        int port = freePort();
+        Map<String, String> env = Map.ofEntries(
+                Map.entry("SPRING_DATASOURCE_URL", mysql.getJdbcUrl() + "?useSSL=false&allowPublicKeyRetrieval=true&characterEncoding=UTF-8"),
+                Map.entry("SPRING_DATASOURCE_USERNAME", mysql.getUsername()),
+                Map.entry("SPRING_DATASOURCE_PASSWORD", mysql.getPassword()),
+                Map.entry("SPRING_JPA_HIBERNATE_DDL_AUTO", "update"),
+                Map.entry("SPRING_JPA_SHOW_SQL", "false"),
+                Map.entry("SPRING_DATA_REDIS_HOST", redis.getHost()),
+                Map.entry("SPRING_DATA_REDIS_PORT", String.valueOf(redis.getMappedPort(6379))),
+                Map.entry("SPRING_KAFKA_BOOTSTRAP_SERVERS", kafka.getBootstrapServers()),
+                Map.entry("SERVER_PORT", String.valueOf(port)),
+                Map.entry("TICKETING_RATE_LIMIT_DEFAULTLIMIT", "1000000000"), // 발생기는 IP 1개에서 모든 요청을 보냄
+                Map.entry("TICKETING_CAPTCHA_LOADTEST", "true"),
+                Map.entry("QUEUE_PASS_SECRET", UUID.randomUUID() + "-" + UUID.randomUUID()), // 실행마다 새 서명 키
+                Map.entry("SPRING_THREADS_VIRTUAL_ENABLED", String.valueOf(virtualThreads))
+        );
+
+        File log = new File("build/loadtest-app-" + (virtualThreads ? "virtual" : "platform") + ".log");
+        log.getParentFile().mkdirs();
+        ProcessBuilder builder = new ProcessBuilder("java", "-jar", jar.getAbsolutePath())
+                .redirectErrorStream(true)
+                .redirectOutput(log);
+        builder.environment().putAll(env);
+        app = builder.start();
+
+        baseUrl = "http://localhost:" + port;
+        awaitHealthy();
+        return baseUrl;
+    }
+
+    private void awaitHealthy() throws InterruptedException {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).timeout(Duration.ofSeconds(5)).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("앱 프로세스 종료됨 (build/loadtest-app-*.log 확인), exit=" + app.exitValue());
+            }
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    System.out.println("[LocalStack] 앱 기동 완료: " + baseUrl);
+                    return;
+                }
+            } catch (IOException ignored) {
+                // 기동 중
+            }
+            TimeUnit.SECONDS.sleep(2);
+        }
+        throw new IllegalStateException("앱 기동 시간 초과 (build/loadtest-app-*.log 확인)");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (app != null) {
+            app.destroy();
+            try {
+                if (!app.waitFor(30, TimeUnit.SECONDS)) {
+                    app.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                app.destroyForcibly();
+            }
+        }
+        kafka.stop();
+        redis.stop();
+        mysql.stop();
+    }
+}
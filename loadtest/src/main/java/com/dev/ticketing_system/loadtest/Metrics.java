@@ -0,0 +1,111 @@
+package com.dev.ticketing_system.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 지연 시간(HdrHistogram, µs) / 결과 카운트 + 단계별 처리량
+ * - ok: 2xx, rejected: 시나리오상 정상적인 거절(409 선점 실패, 403 아직 입장 전 등), error: 5xx / 예외
+ */
+public class Metrics {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+    private final Map<Phase, PhaseWindow> phases = new EnumMap<>(Phase.class);
+
+    public enum Outcome {
+        OK, REJECTED, ERROR
+    }
+
+    /**
+     * 실행 모드 비교용 요약 (요청 수, 오류 수, 지연 시간 ms)
+     */
+    public record Summary(long count, long errors, double p50Millis, double p99Millis) {
+    }
+
+    public Metrics() {
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new PhaseWindow());
+        }
+    }
+
+    /**
+     * @param startNanos 요청 시작 시각 (첫 요청은 도착 예정 시각 → 발생기 지연도 지연 시간에 포함, coordinated omission 보정)
+     */
+    public void record(Phase phase, String name, long startNanos, Outcome outcome) {
+        long endNanos = System.nanoTime();
+        Operation operation = operations.computeIfAbsent(name, key -> new Operation(phase));
+        operation.latency.recordValue(Math.min(MAX_LATENCY_MICROS, Math.max(0, (endNanos - startNanos) / 1000)));
+        operation.outcomes.get(outcome).increment();
+        phases.get(phase).record(startNanos, endNanos);
+    }
+
+    public Map<String, Summary> summaries() {
+        Map<String, Summary> summaries = new TreeMap<>();
+        operations.forEach((name, op) -> summaries.put(name, new Summary(op.latency.getTotalCount(),
+                op.outcomes.get(Outcome.ERROR).sum(),
+                op.latency.getValueAtPercentile(50) / 1000.0, op.latency.getValueAtPercentile(99) / 1000.0)));
+        return summaries;
+    }
+
+    public void print(PrintStream out) {
+        out.println();
+        out.printf("%-16s %-5s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "phase", "count", "ok", "rejected", "error", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        operations.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    Operation op = entry.getValue();
+                    Histogram h = op.latency;
+                    out.printf("%-16s %-5s %9d %9d %9d %9d %9.1f %9.1f %9.1f %9.1f%n",
+                            entry.getKey(), op.phase, h.getTotalCount(),
+                            op.outcomes.get(Outcome.OK).sum(), op.outcomes.get(Outcome.REJECTED).sum(), op.outcomes.get(Outcome.ERROR).sum(),
+                            h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(99) / 1000.0,
+                            h.getValueAtPercentile(99.9) / 1000.0, h.getMaxValue() / 1000.0);
+                });
+
+        out.println();
+        out.printf("%-5s %10s %12s %12s%n", "phase", "requests", "duration(s)", "throughput/s");
+        phases.forEach((phase, window) -> {
+            long count = window.count.sum();
+            double seconds = count == 0 ? 0 : (window.last.get() - window.first.get()) / 1e9;
+            out.printf("%-5s %10d %12.1f %12.1f%n", phase, count, seconds, seconds > 0 ? count / seconds : 0);
+        });
+    }
+
+    private static final class Operation {
+        private final Phase phase;
+        private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final Map<Outcome, LongAdder> outcomes = new EnumMap<>(Outcome.class);
+
+        private Operation(Phase phase) {
+            this.phase = phase;
+            for (Outcome outcome : Outcome.values()) {
+                outcomes.put(outcome, new LongAdder());
+            }
+        }
+    }
+
+    // 단계의 첫 요청 시작 ~ 마지막 요청 종료 구간
+    private static final class PhaseWindow {
+        private final AtomicLong first = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong last = new AtomicLong(Long.MIN_VALUE);
+        private final LongAdder count = new LongAdder();
+
+        private void record(long startNanos, long endNanos) {
+            first.accumulateAndGet(startNanos, Math::min);
+            last.accumulateAndGet(endNanos, Math::max);
+            count.increment();
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.dev.ticketing_system.loadtest;
+
+import com.dev.ticketing_system.loadtest.Metrics.Outcome;
+import com.dev.ticketing_system.loadtest.TicketingClient.Response;
+import com.dev.ticketing_system.loadtest.TicketingClient.Session;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 예매 오픈 시나리오
+ * - 도착: users 명이 arrival-seconds 동안 포아송 분포로 도착 (open-loop, 유저 1명 = 가상 스레드 1개)
+ * - 유저 1명: 캡차 → 대기열 진입 → 순번 폴링 → 입장권 → 좌석 맵 조회 → 선점(실패 시 다른 좌석으로 재시도) → 결제 또는 이탈
+ * - 첫 요청의 지연 시간은 도착 예정 시각부터 측정 (발생기가 밀려도 지연 시간이 작게 찍히지 않도록)
+ */
+public class OnSaleScenario {
+
+    private static final Duration HOLD_TTL = Duration.ofMinutes(5);   // 서버 좌석 선점 유지 시간
+    private static final Duration DRAIN_POLL = Duration.ofSeconds(2);
+
+    private final LoadTestConfig config;
+    private final TicketingClient client;
+    private final Metrics metrics = new Metrics();
+    private final CorrectnessChecker checker = new CorrectnessChecker(HOLD_TTL);
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder queueTimeouts = new LongAdder();
+    private final LongAdder soldOut = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public OnSaleScenario(LoadTestConfig config, TicketingClient client) {
+        this.config = config;
+        this.client = client;
+    }
+
+    public void run() {
+        Set<Long> initiallySold = soldSeats();
+        checker.setInitiallySold(initiallySold);
+        System.out.printf("[LoadTest] concertId=%d, users=%d, arrival=%ds, 시작 시점 판매 완료 %d석%n",
+                config.concertId(), config.users(), config.arrivalWindow().toSeconds(), initiallySold.size());
+
+        Random arrivals = new Random(config.seed());
+        double meanGapNanos = (double) config.arrivalWindow().toNanos() / Math.max(1, config.users());
+        long intendedStart = System.nanoTime();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.users(); i++) {
+                intendedStart += (long) (-Math.log(1 - arrivals.nextDouble()) * meanGapNanos);
+                sleepUntil(intendedStart);
+
+                String userId = "lt-" + config.seed() + "-" + i;
+                long arrivedAt = intendedStart;
+                Random random = new Random(arrivals.nextLong());
+                users.submit(() -> runUser(userId, arrivedAt, random));
+            }
+        } // close(): 모든 유저 시나리오가 끝날 때까지 대기
+
+        verifyAfterDrain();
+    }
+
+    public Metrics metrics() {
+        return metrics;
+    }
+
+    public boolean passed() {
+        return checker.passed() && failed.sum() == 0;
+    }
+
+    public void print(PrintStream out) {
+        metrics.print(out);
+        out.println();
+        out.printf("[유저] 결제 완료 %d, 이탈 %d, 매진으로 선점 포기 %d, 대기 시간 초과 %d, 오류 중단 %d%n",
+                completed.sum(), abandoned.sum(), soldOut.sum(), queueTimeouts.sum(), failed.sum());
+        checker.print(out);
+    }
+
+    private void runUser(String userId, long arrivedAt, Random random) {
+        Session session = new Session();
+        try {
+            // JOIN
+            Response captcha = call(Phase.JOIN, "queue.captcha", arrivedAt, () -> client.get(session, "/api/queue/captcha", Map.of()));
+            if (!captcha.ok()) {
+                failed.increment();
+                return;
+            }
+            Response join = call(Phase.JOIN, "queue.join", System.nanoTime(), () -> client.post(session, "/api/queue/token", Map.of(
+                    "concertId", config.concertId(),
+                    "userId", userId,
+                    "captchaInput", captcha.data().path("captcha").asText(),
+                    "captchaToken", captcha.data().path("captchaToken").asText())));
+            if (!join.ok()) {
+                failed.increment();
+                return;
+            }
+
+            // WAIT
+            if (!waitForAdmission(session, userId)) {
+                queueTimeouts.increment();
+                return;
+            }
+            Response pass = call(Phase.WAIT, "queue.pass", System.nanoTime(),
+                    () -> client.post(session, "/api/queue/pass", Map.of("concertId", config.concertId(), "userId", userId)));
+            if (!pass.ok()) {
+                checker.onPassRefused(userId);
+                return;
+            }
+
+            // HOLD
+            think(random);
+            Long seatId = holdSeat(session, userId, random);
+            if (seatId == null) {
+                soldOut.increment();
+                return;
+            }
+
+            // PAY
+            think(random);
+            if (random.nextDouble() < config.abandonRatio()) {
+                abandoned.increment();
+                release(session, seatId, userId);
+                return;
+            }
+
+            Response payment = call(Phase.PAY, "payment", System.nanoTime(), () -> client.post(session, "/payment/process",
+                    Map.of("concertId", config.concertId(), "seatId", seatId, "userId", userId), userId + ":" + seatId));
+            if (payment.ok()) {
+                checker.onPaid(seatId, userId);
+                completed.increment();
+            } else {
+                release(session, seatId, userId);
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+        }
+    }
+
+    private boolean waitForAdmission(Session session, String userId) {
+        long deadline = System.nanoTime() + config.queueTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            Response status = call(Phase.WAIT, "queue.status", System.nanoTime(),
+                    () -> client.get(session, "/api/queue/status", Map.of("concertId", config.concertId(), "userId", userId)));
+            if (status.ok() && status.data().path("pass").asBoolean()) {
+                return true;
+            }
+            LockSupport.parkNanos(config.pollInterval().toNanos());
+        }
+        return false;
+    }
+
+    /**
+     * 좌석 맵에서 빈 좌석을 골라 선점 (hot-ratio 확률로 앞쪽 인기 구역에서 고름), 409 면 맵을 다시 받아 재시도
+     * @return 선점한 좌석, 빈 좌석이 없거나 재시도 소진 시 null
+     */
+    private Long holdSeat(Session session, String userId, Random random) {
+        for (int attempt = 0; attempt < config.maxHoldAttempts(); attempt++) {
+            Response map = call(Phase.HOLD, "seat.map", System.nanoTime(),
+                    () -> client.get(session, "/api/seats/map", Map.of("concertId", config.concertId())));
+            if (!map.ok()) {
+                return null;
+            }
+
+            Long seatId = pickSeat(map.data(), random);
+            if (seatId == null) {
+                return null;
+            }
+
+            Response hold = call(Phase.HOLD, "seat.hold", System.nanoTime(), () -> client.post(session, "/api/seats/" + seatId + "/occupy",
+                    Map.of("concertId", config.concertId(), "userId", userId)));
+            if (hold.ok()) {
+                checker.onHeld(seatId, userId);
+                return seatId;
+            }
+            if (hold.status() != 409) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private Long pickSeat(JsonNode seatMap, Random random) {
+        JsonNode seatIds = seatMap.path("seatIds");
+        String states = seatMap.path("states").asText();
+        int hotEnd = (int) Math.ceil(states.length() * config.hotSection());
+
+        List<Integer> hot = new ArrayList<>();
+        List<Integer> all = new ArrayList<>();
+        for (int i = 0; i < states.length(); i++) {
+            if (states.charAt(i) == 'A') {
+                all.add(i);
+                if (i < hotEnd) {
+                    hot.add(i);
+                }
+            }
+        }
+
+        List<Integer> candidates = !hot.isEmpty() && random.nextDouble() < config.hotRatio() ? hot : all;
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return seatIds.get(candidates.get(random.nextInt(candidates.size()))).asLong();
+    }
+
+    private void release(Session session, long seatId, String userId) {
+        checker.onReleasing(seatId, userId);
+        call(Phase.PAY, "payment.cancel", System.nanoTime(), () -> client.post(session, "/api/payments/cancel",
+                Map.of("concertId", config.concertId(), "seatId", seatId, "userId", userId)));
+    }
+
+    /**
+     * 결제 접수된 좌석이 모두 SOLD 로 반영될 때까지(Kafka 컨슈머 처리) 기다린 뒤 최종 검사
+     */
+    private void verifyAfterDrain() {
+        long deadline = System.nanoTime() + config.drainTimeout().toNanos();
+        Set<Long> sold = soldSeats();
+        while (!sold.containsAll(checker.paidSeats()) && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(DRAIN_POLL.toNanos());
+            sold = soldSeats();
+        }
+        checker.verifyFinal(sold);
+    }
+
+    private Set<Long> soldSeats() {
+        Response seats = client.get(null, "/api/seats", Map.of("concertId", config.concertId()));
+        if (!seats.ok()) {
+            throw new IllegalStateException("좌석 조회 실패: status=" + seats.status());
+        }
+        Set<Long> sold = new HashSet<>();
+        seats.data().forEach(seat -> {
+            if ("SOLD".equals(seat.path("status").asText())) {
+                sold.add(seat.path("id").asLong());
+            }
+        });
+        return sold;
+    }
+
+    private Response call(Phase phase, String name, long startNanos, Supplier<Response> request) {
+        try {
+            Response response = request.get();
+            int status = response.status();
+            Outcome outcome = status / 100 == 2 ? Outcome.OK
+                    : status / 100 == 4 && status != 429 ? Outcome.REJECTED
+                    : Outcome.ERROR;
+            metrics.record(phase, name, startNanos, outcome);
+            return response;
+        } catch (RuntimeException e) {
+            metrics.record(phase, name, startNanos, Outcome.ERROR);
+            throw e;
+        }
+    }
+
+    private void think(Random random) {
+        long thinkNanos = config.thinkTime().toNanos();
+        if (thinkNanos > 0) {
+            LockSupport.parkNanos(thinkNanos / 2 + (long) (random.nextDouble() * thinkNanos));
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(100)));
+        }
+    }
+}
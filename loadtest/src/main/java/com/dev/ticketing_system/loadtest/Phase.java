@@ -0,0 +1,9 @@
+package com.dev.ticketing_system.loadtest;
+
+/**
+ * 예매 오픈 시나리오 단계
+ * JOIN(캡차 + 대기열 진입) → WAIT(순번 폴링 + 입장권) → HOLD(좌석 맵 + 선점 경합) → PAY(결제 / 이탈)
+ */
+public enum Phase {
+    JOIN, WAIT, HOLD, PAY
+}
@@ -0,0 +1,134 @@
+package com.dev.ticketing_system.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * 티켓팅 API 호출기
+ * - HttpClient 1개를 모든 가상 유저가 공유 (커넥션 풀 공유), 쿠키(JSESSIONID / QUEUE_PASS)는 유저별로 직접 관리
+ * - 가상 스레드에서 블로킹 send 로 호출 → 유저 수만큼 스레드가 있어도 OS 스레드는 소수
+ */
+public class TicketingClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public record Response(int status, JsonNode body) {
+        public boolean ok() {
+            return status / 100 == 2;
+        }
+
+        public JsonNode data() {
+            return body != null ? body.path("data") : MissingNode.getInstance();
+        }
+    }
+
+    /**
+     * 가상 유저 1명의 쿠키 저장소
+     */
+    public static final class Session {
+        private final Map<String, String> cookies = new ConcurrentHashMap<>();
+
+        private String header() {
+            StringJoiner joiner = new StringJoiner("; ");
+            cookies.forEach((name, value) -> joiner.add(name + "=" + value));
+            return joiner.toString();
+        }
+    }
+
+    public TicketingClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public Response get(Session session, String path, Map<String, ?> params) {
+        return send(session, HttpRequest.newBuilder(uri(path, params)).GET(), null);
+    }
+
+    public Response post(Session session, String path, Map<String, ?> params) {
+        return post(session, path, params, null);
+    }
+
+    public Response post(Session session, String path, Map<String, ?> params, String idempotencyKey) {
+        return send(session, HttpRequest.newBuilder(uri(path, params)).POST(HttpRequest.BodyPublishers.noBody()), idempotencyKey);
+    }
+
+    private Response send(Session session, HttpRequest.Builder builder, String idempotencyKey) {
+        builder.timeout(REQUEST_TIMEOUT).header("Accept", "application/json");
+        if (session != null && !session.cookies.isEmpty()) {
+            builder.header("Cookie", session.header());
+        }
+        if (idempotencyKey != null) {
+            builder.header("Idempotency-Key", idempotencyKey);
+        }
+
+        try {
+            HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (session != null) {
+                response.headers().allValues("Set-Cookie").forEach(cookie -> storeCookie(session, cookie));
+            }
+            return new Response(response.statusCode(), parse(response.body()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 중단", e);
+        } catch (IOException e) {
+            throw new IllegalStateException("요청 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private JsonNode parse(byte[] body) {
+        if (body == null || body.length == 0 || body[0] != '{' && body[0] != '[') {
+            return null; // 409 등 문자열 응답
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void storeCookie(Session session, String setCookie) {
+        String pair = setCookie.split(";", 2)[0];
+        int eq = pair.indexOf('=');
+        if (eq > 0) {
+            session.cookies.put(pair.substring(0, eq).trim(), pair.substring(eq + 1).trim());
+        }
+    }
+
+    private URI uri(String path, Map<String, ?> params) {
+        StringJoiner query = new StringJoiner("&");
+        params.forEach((name, value) -> {
+            if (value instanceof Iterable<?> values) {
+                values.forEach(v -> query.add(name + "=" + encode(v)));
+            } else {
+                query.add(name + "=" + encode(value));
+            }
+        });
+        return URI.create(baseUrl + path + (query.length() > 0 ? "?" + query : ""));
+    }
+
+    private static String encode(Object value) {
+        return URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8);
+    }
+}
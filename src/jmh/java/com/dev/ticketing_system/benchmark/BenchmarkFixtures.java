@@ -0,0 +1,47 @@
+package com.dev.ticketing_system.benchmark;
+
+import com.dev.ticketing_system.entity.Concert;
+import com.dev.ticketing_system.entity.Seat;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 벤치마크 공용 대역(fake) / 데이터
+ * - Redis / DB 대신 stubOnly Mockito 대역 사용 (호출 기록을 남기지 않아 반복 호출 시 메모리 / 측정값 오염 없음)
+ * - 측정값에는 네트워크 왕복이 빠져 있으므로 "애플리케이션 코드 자체 비용" 비교용
+ */
+final class BenchmarkFixtures {
+
+    static final Long CONCERT_ID = 1L;
+
+    private BenchmarkFixtures() {
+    }
+
+    static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    /**
+     * 좌석 순번 오름차순 좌석 엔티티 (id 는 JPA 대신 직접 채움, soldEvery 번째 좌석마다 판매 완료)
+     */
+    static List<Seat> seats(int count, int soldEvery) {
+        Concert concert = new Concert("benchmark", "venue", count);
+        ReflectionTestUtils.setField(concert, "id", CONCERT_ID);
+
+        List<Seat> seats = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Seat seat = new Seat(concert, i);
+            ReflectionTestUtils.setField(seat, "id", 100_000L + i);
+            if (i % soldEvery == 0) {
+                seat.markAsSold();
+            }
+            seats.add(seat);
+        }
+        return seats;
+    }
+}
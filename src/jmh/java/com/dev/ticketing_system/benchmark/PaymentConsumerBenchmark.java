@@ -0,0 +1,73 @@
+package com.dev.ticketing_system.benchmark;
+
+import com.dev.ticketing_system.config.KafkaTopicConfig;
+import com.dev.ticketing_system.config.PaymentEventDeserializer;
+import com.dev.ticketing_system.config.PaymentEventSerializer;
+import com.dev.ticketing_system.consumer.PaymentConsumer;
+import com.dev.ticketing_system.dto.PaymentEvent;
+import com.dev.ticketing_system.service.PaymentConfirmService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 완료 이벤트 배치 처리 (poll 1회분)
+ * - 바이너리 메시지 역직렬화(PaymentEventDeserializer) + PaymentConsumer.consume 의 배치 구성 / 좌석 ID 수집
+ * - DB 일괄 SOLD 처리(PaymentConfirmService)는 대역이므로 측정에서 제외
+ * 실행: ./gradlew jmh -Pjmh.includes=PaymentConsumerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentConsumerBenchmark {
+
+    private static final String TOPIC = KafkaTopicConfig.PAYMENT_COMPLETED_TOPIC;
+
+    @Param({"100", "500"})
+    private int batchSize;
+
+    private final PaymentEventDeserializer deserializer = new PaymentEventDeserializer();
+    private List<byte[]> payloads;
+    private PaymentConsumer paymentConsumer;
+
+    @Setup
+    public void setUp() {
+        payloads = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            payloads.add(PaymentEventSerializer.encode(PaymentEvent.builder()
+                    .concertId(BenchmarkFixtures.CONCERT_ID)
+                    .seatIds(List.of(100_000L + i * 2L, 100_001L + i * 2L))
+                    .userId("kakao:user" + i)
+                    .amount(200000)
+                    .idempotencyKey("idem-" + i)
+                    .createdAt(System.currentTimeMillis())
+                    .build()));
+        }
+        paymentConsumer = new PaymentConsumer(BenchmarkFixtures.stub(PaymentConfirmService.class));
+    }
+
+    @Benchmark
+    public void consume() {
+        List<ConsumerRecord<String, PaymentEvent>> records = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            records.add(new ConsumerRecord<>(TOPIC, 0, i, null, deserializer.deserialize(TOPIC, payloads.get(i))));
+        }
+        paymentConsumer.consume(records);
+    }
+}
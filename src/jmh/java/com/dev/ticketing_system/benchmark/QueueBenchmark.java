@@ -0,0 +1,86 @@
+package com.dev.ticketing_system.benchmark;
+
+import com.dev.ticketing_system.config.QueueAdmissionProperties;
+import com.dev.ticketing_system.dto.QueueStatusDto;
+import com.dev.ticketing_system.service.QueueRateEstimator;
+import com.dev.ticketing_system.service.QueueService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대기 상태 조회 (대기 화면 폴링마다 호출되는 경로)
+ * - 대기열 ZSET 은 메모리 대역 (ZSCORE = HashMap, ZCOUNT = 정렬 배열 이진 탐색)
+ * - 측정값 = 키 생성 / 샤드 계산 / 예상 대기 시간 계산 등 애플리케이션 쪽 비용 (Redis 왕복 제외)
+ * 실행: ./gradlew jmh -Pjmh.includes=QueueBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+
+    @Param({"100000"})
+    private int waiting;
+
+    private String[] userIds;
+    private QueueService queueService;
+    private int next;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        userIds = new String[waiting];
+        double[] scores = new double[waiting];
+        Map<String, Double> scoreByUser = new HashMap<>(waiting * 2);
+        for (int i = 0; i < waiting; i++) {
+            userIds[i] = "user" + i;
+            scores[i] = i + 1;
+            scoreByUser.put(userIds[i], scores[i]);
+        }
+
+        RScoredSortedSet<String> queue = BenchmarkFixtures.stub(RScoredSortedSet.class);
+        when(queue.getScore(anyString())).thenAnswer(invocation -> scoreByUser.get(invocation.<String>getArgument(0)));
+        when(queue.count(anyDouble(), anyBoolean(), anyDouble(), anyBoolean())).thenAnswer(invocation -> {
+            int index = Arrays.binarySearch(scores, invocation.<Double>getArgument(2));
+            return index >= 0 ? index : -index - 1; // score 미만 인원 수
+        });
+
+        RedissonClient redissonClient = BenchmarkFixtures.stub(RedissonClient.class);
+        when(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).thenReturn(queue);
+
+        QueueRateEstimator rateEstimator = new QueueRateEstimator(redissonClient, new QueueAdmissionProperties(), new SimpleMeterRegistry());
+        queueService = new QueueService(redissonClient, rateEstimator);
+    }
+
+    @Benchmark
+    public QueueStatusDto getQueueStatus() {
+        next = (next + 7919) % waiting; // 대기열 전체에 고르게 분산
+        return queueService.getQueueStatus(BenchmarkFixtures.CONCERT_ID, userIds[next]);
+    }
+}
@@ -0,0 +1,84 @@
+package com.dev.ticketing_system.benchmark;
+
+import com.dev.ticketing_system.config.RateLimitInterceptor;
+import com.dev.ticketing_system.config.RateLimitProperties;
+import com.dev.ticketing_system.service.RateLimitService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 요청 제한 인터셉터 (모든 API 요청 앞단)
+ * - Redis lease 스크립트는 항상 lease-size 만큼 빌려주는 대역 → 로컬 토큰 판정 + lease-size 마다 1회 lease 경로 측정
+ * - clients: 요청을 보내는 IP 수 (1 이면 같은 버킷에 4개 스레드가 몰리는 경합 상황)
+ * 실행: ./gradlew jmh -Pjmh.includes=RateLimitBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RateLimitBenchmark {
+
+    private static final String ROUTE = "/api/seats/{seatId}/occupy";
+
+    @Param({"1", "10000"})
+    private int clients;
+
+    private MockHttpServletRequest[] requests;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final AtomicInteger next = new AtomicInteger();
+    private RateLimitInterceptor interceptor;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setDefaultLimit(Long.MAX_VALUE / 2);
+
+        RScript script = mock(RScript.class, withSettings().stubOnly().defaultAnswer(invocation -> properties.getLeaseSize()));
+        RedissonClient redissonClient = BenchmarkFixtures.stub(RedissonClient.class);
+        when(redissonClient.getScript(any(Codec.class))).thenReturn(script);
+
+        interceptor = new RateLimitInterceptor(new RateLimitService(redissonClient, properties), new ObjectMapper());
+
+        requests = new MockHttpServletRequest[clients];
+        for (int i = 0; i < clients; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/seats/" + i + "/occupy");
+            request.setRemoteAddr("10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff));
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE);
+            requests[i] = request;
+        }
+    }
+
+    @Benchmark
+    public boolean preHandle() throws Exception {
+        MockHttpServletRequest request = requests[Math.floorMod(next.getAndIncrement(), clients)];
+        return interceptor.preHandle(request, response, null);
+    }
+}
@@ -0,0 +1,99 @@
+package com.dev.ticketing_system.benchmark;
+
+import com.dev.ticketing_system.dto.SeatResponseDto;
+import com.dev.ticketing_system.entity.Seat;
+import com.dev.ticketing_system.repository.SeatRepository;
+import com.dev.ticketing_system.service.SeatMapCache;
+import com.dev.ticketing_system.service.SeatService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.ScoredEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 좌석 조회 경로
+ * - getAvailableSeats: 노드 로컬 좌석 맵 적중 시 화면용 DTO 목록 생성 비용 (좌석 순번 순서 그대로, 정렬 / 역직렬화 없음)
+ * - seatResponseDtoFrom: 엔티티 → DTO 변환 (좌석 캐시 재구성 시 좌석 수만큼 호출)
+ * 실행: ./gradlew jmh -Pjmh.includes=SeatBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeatBenchmark {
+
+    private static final int SOLD_EVERY = 10;
+    private static final int HELD_EVERY = 20;
+
+    @Param({"1000", "10000"})
+    private int seats;
+
+    private List<Seat> entities;
+    private SeatService seatService;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        entities = BenchmarkFixtures.seats(seats, SOLD_EVERY);
+
+        SeatRepository seatRepository = BenchmarkFixtures.stub(SeatRepository.class);
+        when(seatRepository.findByConcertIdOrderBySeatNumberAsc(BenchmarkFixtures.CONCERT_ID)).thenReturn(entities);
+
+        // 좌석 맵 로딩 시 읽는 버전 / 선점 중 좌석 ZSET
+        List<ScoredEntry<String>> held = new ArrayList<>();
+        double heldUntil = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+        for (int i = HELD_EVERY; i <= seats; i += HELD_EVERY) {
+            if (i % SOLD_EVERY != 0) {
+                held.add(new ScoredEntry<>(heldUntil, String.valueOf(entities.get(i - 1).getId())));
+            }
+        }
+        RScoredSortedSet<String> heldSeats = BenchmarkFixtures.stub(RScoredSortedSet.class);
+        when(heldSeats.entryRange(anyDouble(), anyBoolean(), anyDouble(), anyBoolean())).thenReturn(held);
+
+        RedissonClient redissonClient = BenchmarkFixtures.stub(RedissonClient.class);
+        when(redissonClient.getAtomicLong(anyString())).thenReturn(BenchmarkFixtures.stub(RAtomicLong.class));
+        when(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).thenReturn(heldSeats);
+
+        SeatMapCache seatMapCache = new SeatMapCache(seatRepository, redissonClient, new ObjectMapper());
+        seatService = new SeatService(seatRepository, null, null, seatMapCache, null);
+        seatService.getAvailableSeats(BenchmarkFixtures.CONCERT_ID); // 첫 조회에서 좌석 맵 로딩 → 이후 측정은 모두 캐시 적중
+    }
+
+    @Benchmark
+    public List<SeatResponseDto> getAvailableSeats() {
+        return seatService.getAvailableSeats(BenchmarkFixtures.CONCERT_ID);
+    }
+
+    @Benchmark
+    public void seatResponseDtoFrom(Blackhole blackhole) {
+        for (Seat seat : entities) {
+            blackhole.consume(SeatResponseDto.from(seat));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.dev.ticketing_system.benchmark;
+
+import com.dev.ticketing_system.config.SeatCacheValueSerializer;
+import com.dev.ticketing_system.dto.SeatResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 캐시 값 포맷 비교: 기존 JSON(GenericJackson2JsonRedisSerializer) vs 고정 길이 바이너리(SeatCacheValueSerializer)
+ * - 공연 1개 분량(seats 개)의 해시 값을 인코딩 / 디코딩 (opsForHash().values() 디코딩 비용에 해당)
+ * - 좌석당 값 크기(byte)는 Setup 에서 출력 (Redis 해시 엔트리의 값 부분 메모리)
+ * 실행: ./gradlew jmh -Pjmh.includes=SeatCacheCodecBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeatCacheCodecBenchmark {
+
+    @Param({"1000", "10000"})
+    private int seats;
+
+    private final RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer();
+    private final SeatCacheValueSerializer compact = new SeatCacheValueSerializer();
+
+    private List<SeatResponseDto> values;
+    private List<byte[]> jsonValues;
+    private List<byte[]> compactValues;
+
+    @Setup
+    public void setUp() {
+        values = new ArrayList<>(seats);
+        jsonValues = new ArrayList<>(seats);
+        compactValues = new ArrayList<>(seats);
+
+        long jsonBytes = 0;
+        long compactBytes = 0;
+        for (int i = 1; i <= seats; i++) {
+            SeatResponseDto seat = SeatResponseDto.builder()
+                    .id(100_000L + i)
+                    .seatNumber(i)
+                    .status(i % 10 == 0 ? "SOLD" : "AVAILABLE")
+                    .isLocked(i % 7 == 0)
+                    .build();
+            values.add(seat);
+
+            byte[] jsonValue = json.serialize(seat);
+            byte[] compactValue = compact.serialize(seat);
+            jsonValues.add(jsonValue);
+            compactValues.add(compactValue);
+            jsonBytes += jsonValue.length;
+            compactBytes += compactValue.length;
+        }
+
+        System.out.printf("%n[SeatCacheCodec] seats=%d, bytes/seat json=%.1f, compact=%.1f%n",
+                seats, (double) jsonBytes / seats, (double) compactBytes / seats);
+    }
+
+    @Benchmark
+    public void decodeJson(Blackhole blackhole) {
+        for (byte[] value : jsonValues) {
+            blackhole.consume(json.deserialize(value));
+        }
+    }
+
+    @Benchmark
+    public void decodeCompact(Blackhole blackhole) {
+        for (byte[] value : compactValues) {
+            blackhole.consume(compact.deserialize(value));
+        }
+    }
+
+    @Benchmark
+    public void encodeJson(Blackhole blackhole) {
+        for (SeatResponseDto seat : values) {
+            blackhole.consume(json.serialize(seat));
+        }
+    }
+
+    @Benchmark
+    public void encodeCompact(Blackhole blackhole) {
+        for (SeatResponseDto seat : values) {
+            blackhole.consume(compact.serialize(seat));
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.dev.ticketing_system.config;
 
+import com.dev.ticketing_system.service.SingleFlightLoader;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,17 +20,33 @@ import java.time.Duration;
 @EnableCaching // 캐싱 기능 활성화
 public class CacheConfig {
 
+    // 논리 유효 시간 30분, 실제 TTL 은 2배로 둬서 만료 직후에는 stale 값으로 응답하며 1개 요청만 재구성
+    private static final Duration FRESH_TTL = Duration.ofMinutes(30);
+
+    @Value("${ticketing.cache.local.ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${ticketing.cache.local.max-size:1000}")
+    private long localMaxSize;
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // 기본 설정: Key는 String, Value는 JSON으로 직렬화, TTL은 30분
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, RedissonClient redissonClient,
+                                     SingleFlightLoader singleFlightLoader) {
+        // L2 설정: Key는 String, Value는 JSON으로 직렬화 (L1 도 같은 직렬화 바이트를 보관)
+        GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer();
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(30)) // 캐시 유효 시간 30분
+                .entryTtl(FRESH_TTL.multipliedBy(2))
                 .disableCachingNullValues()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
                 .build();
+        redisCacheManager.initializeCaches();
+
+        // L1: 노드 로컬 Caffeine (TTL / 최대 개수 제한), 변경은 Pub/Sub 으로 다른 노드 L1 무효화
+        return new TwoLevelCacheManager(redisCacheManager, valueSerializer, redissonClient, singleFlightLoader,
+                FRESH_TTL, Duration.ofSeconds(localTtlSeconds), localMaxSize);
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package com.dev.ticketing_system.config;
 
+import com.dev.ticketing_system.dto.PaymentEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
@@ -17,23 +20,63 @@ import org.springframework.util.backoff.FixedBackOff;
 @Configuration
 public class KafkaConsumerConfig {
 
+    // 가상 스레드 모드: 직접 만든 팩토리는 Spring Boot 자동 설정이 적용되지 않으므로 리스너 스레드를 직접 지정
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     /**
      * 커스텀 리스너 컨테이너 팩토리 빈 등록
      * 이 빈이 있으면 @KafkaListener는 자동으로 이 설정을 사용합니다.
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
-            ConsumerFactory<String, String> consumerFactory,
-            KafkaTemplate<String, String> kafkaTemplate) {
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentEvent> kafkaListenerContainerFactory(
+            ConsumerFactory<String, PaymentEvent> consumerFactory,
+            KafkaTemplate<String, PaymentEvent> kafkaTemplate) {
 
-        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        ConcurrentKafkaListenerContainerFactory<String, PaymentEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory);
+        factory.setCommonErrorHandler(deadLetterErrorHandler(kafkaTemplate));
+        applyThreading(factory);
 
+        return factory;
+    }
+
+    /**
+     * 배치 리스너 컨테이너 팩토리 (결제 완료 이벤트 일괄 처리용)
+     * - poll 된 레코드 묶음을 List 로 한 번에 전달
+     * - 리스너가 BatchListenerFailedException(index)을 던지면 그 앞 레코드는 커밋, 실패 레코드만 재시도 후 DLT 로 이동
+     * - concurrency 만큼 컨슈머 스레드를 띄워 파티션을 나눠 처리 (파티션 수보다 크면 남는 스레드는 대기)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentEvent> batchKafkaListenerContainerFactory(
+            ConsumerFactory<String, PaymentEvent> consumerFactory,
+            KafkaTemplate<String, PaymentEvent> kafkaTemplate,
+            @Value("${ticketing.kafka.payment.concurrency:3}") int concurrency) {
+
+        ConcurrentKafkaListenerContainerFactory<String, PaymentEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.setCommonErrorHandler(deadLetterErrorHandler(kafkaTemplate));
+        applyThreading(factory);
+
+        return factory;
+    }
+
+    private void applyThreading(ConcurrentKafkaListenerContainerFactory<String, PaymentEvent> factory) {
+        if (virtualThreads) {
+            // 컨슈머 poll 루프 + 리스너(DB 일괄 UPDATE 대기)를 가상 스레드에서 실행
+            factory.getContainerProperties().setListenerTaskExecutor(new VirtualThreadTaskExecutor("kafka-listener-"));
+        }
+    }
+
+    private DefaultErrorHandler deadLetterErrorHandler(KafkaTemplate<String, PaymentEvent> kafkaTemplate) {
         // -------------------------------------------------------
         // [DLQ 핵심 설정]
         // -------------------------------------------------------
 
         // 1. Recoverer: 실패 시 메시지를 DLT 토픽(기존토픽명.DLT)으로 전송
+        //    (역직렬화 실패 레코드는 원본 byte[] 로 전송되며 PaymentEventSerializer 가 그대로 통과시킴)
         DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
                 kafkaTemplate,
                 (record, ex) -> new TopicPartition(record.topic() + ".DLT", record.partition())
@@ -52,8 +95,6 @@ public class KafkaConsumerConfig {
                         record.topic(),
                         record.value(),
                         ex.getMessage()));
-        factory.setCommonErrorHandler(errorHandler);
-
-        return factory;
+        return errorHandler;
     }
 }
@@ -0,0 +1,41 @@
+package com.dev.ticketing_system.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * 결제 토픽 프로비저닝
+ * - 파티션 수만큼 컨슈머를 늘려 처리량 확장 (메시지 키 = 좌석 ID 이므로 같은 좌석 이벤트는 순서 보장)
+ * - DLT 는 원본과 같은 파티션 번호로 보내므로(KafkaConsumerConfig) 파티션 수를 반드시 맞춤
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    public static final String PAYMENT_COMPLETED_TOPIC = "payment-completed";
+    public static final String PAYMENT_COMPLETED_DLT = PAYMENT_COMPLETED_TOPIC + ".DLT";
+
+    @Value("${ticketing.kafka.payment.partitions:6}")
+    private int partitions;
+
+    @Value("${ticketing.kafka.payment.replicas:1}")
+    private int replicas;
+
+    @Bean
+    public NewTopic paymentCompletedTopic() {
+        return TopicBuilder.name(PAYMENT_COMPLETED_TOPIC)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    @Bean
+    public NewTopic paymentCompletedDltTopic() {
+        return TopicBuilder.name(PAYMENT_COMPLETED_DLT)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.dev.ticketing_system.config;
+
+import com.dev.ticketing_system.dto.PaymentEvent;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PaymentEvent 역직렬화
+ * - 첫 바이트가 스키마 버전(1)이면 바이너리 포맷으로 해석 (중간 복사 없이 원본 배열에서 바로 읽음)
+ * - 그 외에는 롤아웃 기간 동안 남아있는 구버전 문자열 "seatId1,seatId2:userId" 로 해석
+ * - 형식이 잘못되면 IllegalArgumentException (ErrorHandlingDeserializer 가 감싸서 재시도 없이 DLT 로 이동)
+ */
+public class PaymentEventDeserializer implements Deserializer<PaymentEvent> {
+
+    @Override
+    public PaymentEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return decode(data);
+    }
+
+    public static PaymentEvent decode(byte[] data) {
+        if (data.length > 0 && data[0] == PaymentEventSerializer.SCHEMA_V1) {
+            return decodeV1(data);
+        }
+        return decodeLegacy(new String(data, StandardCharsets.UTF_8));
+    }
+
+    private static PaymentEvent decodeV1(byte[] data) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            buffer.get(); // version
+
+            long concertId = buffer.getLong();
+            long createdAt = buffer.getLong();
+            long amount = buffer.getLong();
+
+            int seatCount = Short.toUnsignedInt(buffer.getShort());
+            List<Long> seatIds = new ArrayList<>(seatCount);
+            for (int i = 0; i < seatCount; i++) {
+                seatIds.add(buffer.getLong());
+            }
+
+            String userId = readString(buffer, data);
+            String idempotencyKey = readString(buffer, data);
+
+            if (seatIds.isEmpty() || userId.isEmpty()) {
+                throw new IllegalArgumentException("Invalid payment event: empty seat or user");
+            }
+
+            return new PaymentEvent(concertId != 0 ? concertId : null, seatIds, userId, amount,
+                    idempotencyKey.isEmpty() ? null : idempotencyKey, createdAt);
+
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated payment event (" + data.length + " bytes)", e);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer, byte[] data) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        String value = new String(data, buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static PaymentEvent decodeLegacy(String message) {
+        // userId 에 ':' 가 포함되어도 첫 구분자 기준으로만 나눔
+        String[] data = message.split(":", 2);
+        if (data.length != 2 || data[1].isEmpty()) {
+            throw new IllegalArgumentException("Invalid payment message format: " + message);
+        }
+
+        List<Long> seatIds = new ArrayList<>();
+        for (String seatId : data[0].split(",")) {
+            seatIds.add(Long.parseLong(seatId));
+        }
+        return new PaymentEvent(null, seatIds, data[1], 0L, null, 0L);
+    }
+}
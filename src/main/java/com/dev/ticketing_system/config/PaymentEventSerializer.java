@@ -0,0 +1,71 @@
+package com.dev.ticketing_system.config;
+
+import com.dev.ticketing_system.dto.PaymentEvent;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * PaymentEvent 바이너리 직렬화 (Big Endian)
+ * [version:1][concertId:8][createdAt:8][amount:8][seatCount:2][seatId:8 * n][userIdLen:2][userId][idemKeyLen:2][idemKey]
+ * - concertId 0 = 알 수 없음, idemKeyLen 0 = 없음
+ * - 길이 필드는 unsigned short → 65535 를 넘는 좌석 수 / userId / idemKey 는 잘못된 프레임을 쓰지 않고 IllegalArgumentException
+ * - DLT 재발행 시 역직렬화에 실패한 원본(byte[])은 그대로 통과시킴
+ */
+public class PaymentEventSerializer implements Serializer<Object> {
+
+    public static final byte SCHEMA_V1 = 1;
+    public static final int MAX_FIELD_LENGTH = 0xFFFF;
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof byte[] raw) {
+            return raw;
+        }
+        if (data instanceof PaymentEvent event) {
+            return encode(event);
+        }
+        throw new IllegalArgumentException("Unsupported payment event type: " + data.getClass().getName());
+    }
+
+    public static byte[] encode(PaymentEvent event) {
+        List<Long> seatIds = event.getSeatIds();
+        byte[] userId = event.getUserId().getBytes(StandardCharsets.UTF_8);
+        byte[] idempotencyKey = (event.getIdempotencyKey() != null)
+                ? event.getIdempotencyKey().getBytes(StandardCharsets.UTF_8)
+                : new byte[0];
+
+        checkLength("seatCount", seatIds.size());
+        checkLength("userId", userId.length);
+        checkLength("idempotencyKey", idempotencyKey.length);
+
+        int size = 1 + 8 + 8 + 8 + 2 + (8 * seatIds.size()) + 2 + userId.length + 2 + idempotencyKey.length;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+
+        buffer.put(SCHEMA_V1);
+        buffer.putLong(event.getConcertId() != null ? event.getConcertId() : 0L);
+        buffer.putLong(event.getCreatedAt());
+        buffer.putLong(event.getAmount());
+        buffer.putShort((short) seatIds.size());
+        for (Long seatId : seatIds) {
+            buffer.putLong(seatId);
+        }
+        buffer.putShort((short) userId.length);
+        buffer.put(userId);
+        buffer.putShort((short) idempotencyKey.length);
+        buffer.put(idempotencyKey);
+
+        return buffer.array();
+    }
+
+    private static void checkLength(String field, int length) {
+        if (length > MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException("Payment event " + field + " too long: " + length + " > " + MAX_FIELD_LENGTH);
+        }
+    }
+}
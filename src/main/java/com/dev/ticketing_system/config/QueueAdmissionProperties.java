@@ -0,0 +1,35 @@
+package com.dev.ticketing_system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 대기열 입장 속도 설정 (ticketing.queue.admission.*)
+ * - 노드 수와 무관하게 클러스터 전체 기준 초당 입장 인원
+ * - rates 에 공연별로 지정하지 않은 공연은 default-rate 적용 (자동 조절 시 상한으로 사용)
+ * - max-active: 좌석 선택/결제 단계에 동시에 둘 수 있는 공연별 인원 (선점 / 결제 처리 용량)
+ * - target-utilization: max-active 대비 유지하려는 비율, 넘으면 입장 속도를 줄이고 밑돌면 늘림
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ticketing.queue.admission")
+public class QueueAdmissionProperties {
+
+    private double defaultRate = 33.0;
+    private long tickMs = 1000;
+    private Map<Long, Double> rates = new HashMap<>();
+    private boolean adaptive = true;
+    private long maxActive = 3000;
+    private double targetUtilization = 0.8;
+    private double minRate = 1.0;
+
+    public double rateOf(Long concertId) {
+        return rates.getOrDefault(concertId, defaultRate);
+    }
+}
@@ -0,0 +1,70 @@
+package com.dev.ticketing_system.config;
+
+import com.dev.ticketing_system.dto.ApiResponse;
+import com.dev.ticketing_system.service.QueuePassService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 좌석 선점 / 결제 API 입장권 검사
+ * - 요청 파라미터의 concertId / userId 와 입장권(쿠키) 내용이 일치해야 통과 (concertId 누락 시 거절 → 다른 공연 입장권 재사용 불가)
+ * - 서명 검증만 하므로 Redis 호출 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueuePassInterceptor implements HandlerInterceptor {
+
+    private final QueuePassService queuePassService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        String userId = request.getParameter("userId");
+        String concertId = request.getParameter("concertId");
+
+        if (isValidPass(findPass(request), concertId, userId)) {
+            return true;
+        }
+
+        log.warn("입장권 검증 실패 - userId: {}, concertId: {}, URI: {}", userId, concertId, request.getRequestURI());
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(
+                ApiResponse.error("대기열 입장 후 이용할 수 있습니다.")
+        ));
+        return false;
+    }
+
+    private boolean isValidPass(String pass, String concertId, String userId) {
+        if (concertId == null || concertId.isBlank()) {
+            return false;
+        }
+        try {
+            return queuePassService.verify(pass, Long.valueOf(concertId), userId) != null;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private String findPass(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (QueuePassService.COOKIE_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+}
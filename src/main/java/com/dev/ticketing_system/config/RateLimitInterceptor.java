@@ -1,50 +1,39 @@
 package com.dev.ticketing_system.config;
 
 import com.dev.ticketing_system.dto.ApiResponse;
+import com.dev.ticketing_system.service.RateLimitService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RRateLimiter;
-import org.redisson.api.RateIntervalUnit;
-import org.redisson.api.RateType;
-import org.redisson.api.RedissonClient;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RateLimitInterceptor implements HandlerInterceptor {
 
-    private final RedissonClient redissonClient;
+    private static final String UNMATCHED_ROUTE = "unmatched";
+
+    private final RateLimitService rateLimitService;
     private final ObjectMapper objectMapper; // JSON 응답용
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
         // 1. 클라이언트 IP 추출 (실제 운영 환경에선 X-Forwarded-For 헤더 확인 필요)
         String clientIp = request.getRemoteAddr();
-        String requestUri = request.getRequestURI();
-
-        // 2. Redis Key 생성 (IP별 + API별 제한)
-        // 예: rate_limit:127.0.0.1:/api/seats/1/occupy
-        String limiterKey = "rate_limit:" + clientIp + ":" + requestUri;
-
-        RRateLimiter rateLimiter = redissonClient.getRateLimiter(limiterKey);
-
-        // 3. 규칙 설정: 1분(60초)에 최대 100회 요청 허용 (상황에 따라 조절)
-        // trySetRate는 이미 설정되어 있으면 false를 반환하므로 성능 영향 거의 없음
-        // rateLimiter.trySetRate(RateType.OVERALL, 100, 60, RateIntervalUnit.SECONDS);
 
-        // 테스트용 설정
-        rateLimiter.trySetRate(RateType.OVERALL, 10000, 60, RateIntervalUnit.SECONDS);
+        // 2. 제한 단위는 raw URI 가 아닌 라우트 템플릿
+        // 예: /api/seats/123/occupy, /api/seats/124/occupy -> /api/seats/{seatId}/occupy 하나로 집계
+        String route = resolveRoute(request);
 
-
-        // 4. 토큰 획득 시도 (Non-blocking)
-        if (!rateLimiter.tryAcquire()) {
-            log.warn("Rate Limit Exceeded - IP: {}, URI: {}", clientIp, requestUri);
+        // 3. 토큰 획득 시도 (대부분 노드 로컬에서 판정, 로컬 토큰 소진 시에만 Redis)
+        if (!rateLimitService.tryAcquire(clientIp, route)) {
+            log.warn("Rate Limit Exceeded - IP: {}, Route: {}", clientIp, route);
 
             // 429 Too Many Requests 응답 반환
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
@@ -62,4 +51,9 @@ public class RateLimitInterceptor implements HandlerInterceptor {
 
         return true; // 통과
     }
-}
\ No newline at end of file
+
+    private String resolveRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+    }
+}
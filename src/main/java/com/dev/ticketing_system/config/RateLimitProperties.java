@@ -0,0 +1,38 @@
+package com.dev.ticketing_system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * API 요청 제한 설정 (ticketing.rate-limit.*)
+ * - 클라이언트(IP) + 라우트 템플릿(/api/seats/{seatId}/occupy) 기준으로 window-seconds 동안 허용할 요청 수
+ * - routes 에 지정하지 않은 라우트는 default-limit 적용
+ * - lease-size: 노드가 Redis 전역 예산에서 한 번에 빌려오는 토큰 수 (클수록 Redis 호출은 줄고 window 경계 오차는 커짐)
+ * - expected-nodes: Redis 장애 시 노드별 window 한도 = 한도 / expected-nodes (전역 예산 대신 노드 로컬 몫만 허용)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ticketing.rate-limit")
+public class RateLimitProperties {
+
+    private long windowSeconds = 60;
+    private long defaultLimit = 10000;
+    private Map<String, Long> routes = new HashMap<>();
+    private long leaseSize = 20;
+    private int stripes = 4;
+    private int expectedNodes = 1;
+
+    public long limitOf(String route) {
+        return routes.getOrDefault(route, defaultLimit);
+    }
+
+    public long fallbackLimitOf(String route) {
+        return Math.max(1, limitOf(route) / Math.max(1, expectedNodes));
+    }
+}
@@ -1,5 +1,7 @@
 package com.dev.ticketing_system.config;
 
+import com.dev.ticketing_system.dto.SeatResponseDto;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -30,4 +32,24 @@ public class RedisConfig {
 
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * 좌석 캐시(seats:concert:{concertId}) 전용 RedisTemplate
+     * - compact(기본): 좌석당 15 byte 고정 길이 바이너리 (SeatCacheValueSerializer)
+     * - json: 기존 JSON 포맷 (롤백용). 선점 스크립트는 두 포맷을 모두 읽으므로 전환 중 섞여 있어도 동작
+     */
+    @Bean
+    public RedisTemplate<String, SeatResponseDto> seatCacheRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                                         @Value("${ticketing.seat-cache.codec:compact}") String codec) {
+        RedisTemplate<String, SeatResponseDto> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer("json".equalsIgnoreCase(codec)
+                ? new GenericJackson2JsonRedisSerializer()
+                : new SeatCacheValueSerializer());
+
+        return template;
+    }
+}
@@ -0,0 +1,59 @@
+package com.dev.ticketing_system.config;
+
+import com.dev.ticketing_system.dto.SeatResponseDto;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 좌석 캐시(seats:concert:{concertId}) 해시 값 고정 길이 바이너리 직렬화 (Big Endian, 15 byte)
+ * [version:1][status:1 'A'|'S'][locked:1 0|1][seatNumber:4][seatId:8]
+ * - JSON(@class FQCN 포함, 좌석당 약 130 byte) 대비 메모리 / 디코딩 비용 절감
+ * - SeatHoldEngine 의 Lua 스크립트가 status / locked 바이트 위치를 직접 읽고 쓰므로 레이아웃 변경 시 버전을 올리고 스크립트도 함께 수정
+ */
+public class SeatCacheValueSerializer implements RedisSerializer<SeatResponseDto> {
+
+    public static final byte SCHEMA_V1 = 1;
+    public static final int SIZE_V1 = 1 + 1 + 1 + 4 + 8;
+
+    private static final byte STATUS_AVAILABLE = 'A';
+    private static final byte STATUS_SOLD = 'S';
+
+    @Override
+    public byte[] serialize(SeatResponseDto seat) {
+        if (seat == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE_V1);
+        buffer.put(SCHEMA_V1);
+        buffer.put("SOLD".equals(seat.getStatus()) ? STATUS_SOLD : STATUS_AVAILABLE);
+        buffer.put((byte) (seat.isLocked() ? 1 : 0));
+        buffer.putInt(seat.getSeatNumber());
+        buffer.putLong(seat.getId());
+        return buffer.array();
+    }
+
+    @Override
+    public SeatResponseDto deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != SCHEMA_V1 || bytes.length != SIZE_V1) {
+            throw new SerializationException("Unsupported seat cache value: version=" + bytes[0] + ", length=" + bytes.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, SIZE_V1 - 1);
+        byte status = buffer.get();
+        boolean locked = buffer.get() != 0;
+        int seatNumber = buffer.getInt();
+        long seatId = buffer.getLong();
+
+        return SeatResponseDto.builder()
+                .id(seatId)
+                .seatNumber(seatNumber)
+                .status(status == STATUS_SOLD ? "SOLD" : "AVAILABLE")
+                .isLocked(locked)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.dev.ticketing_system.config;
+
+import com.dev.ticketing_system.service.SingleFlightLoader;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 캐시 스탬피드 방지 래퍼 (@Cacheable(sync = true) 경로)
+ * - 값과 함께 논리 만료 시각 / 재구성 소요시간을 저장하고, 실제 TTL 은 그보다 길게 둬서 만료 직후에도 stale 값이 남아 있게 함
+ * - 논리 만료가 지났거나 XFetch 로 조기 갱신 대상이 되면 클러스터에서 1개 요청만 DB 를 다시 읽고, 나머지는 stale 값으로 응답
+ * - 값이 아예 없을 때만 다른 노드의 재구성을 잠깐 기다림
+ */
+public class StampedeProtectedCache implements Cache {
+
+    private static final Duration MISS_WAIT = Duration.ofSeconds(2);
+
+    private final Cache delegate;
+    private final SingleFlightLoader singleFlightLoader;
+    private final Duration freshTtl;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Object value;
+        private long freshUntil;
+        private long rebuildMillis;
+    }
+
+    public StampedeProtectedCache(Cache delegate, SingleFlightLoader singleFlightLoader, Duration freshTtl) {
+        this.delegate = delegate;
+        this.singleFlightLoader = singleFlightLoader;
+        this.freshTtl = freshTtl;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Entry entry = entry(key);
+        return entry != null ? new SimpleValueWrapper(entry.getValue()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        Entry entry = entry(key);
+        if (entry == null) {
+            return null;
+        }
+        if (type != null && entry.getValue() != null && !type.isInstance(entry.getValue())) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + type.getName());
+        }
+        return (T) entry.getValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Entry entry = entry(key);
+        long now = System.currentTimeMillis();
+        if (entry != null && !SingleFlightLoader.shouldRefreshEarly(now, entry.getFreshUntil(), entry.getRebuildMillis())) {
+            return (T) entry.getValue();
+        }
+
+        Object[] loaded = new Object[1];
+        boolean rebuilt = singleFlightLoader.runExclusively(lockKey(key), () -> loaded[0] = load(key, valueLoader));
+        if (rebuilt) {
+            return (T) loaded[0];
+        }
+        if (entry != null) {
+            return (T) entry.getValue(); // 다른 노드가 갱신 중 → stale 값으로 응답
+        }
+
+        if (singleFlightLoader.await(() -> entry(key) != null, MISS_WAIT)) {
+            return (T) entry(key).getValue();
+        }
+        return (T) load(key, valueLoader); // 재구성 노드가 응답이 없으면 직접 로딩
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, new Entry(value, System.currentTimeMillis() + freshTtl.toMillis(), 0L));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        long startedAt = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long finishedAt = System.currentTimeMillis();
+        delegate.put(key, new Entry(value, finishedAt + freshTtl.toMillis(), finishedAt - startedAt));
+        return value;
+    }
+
+    // 이전 형식(래핑 전) 값은 없는 것으로 취급
+    private Entry entry(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        return wrapper != null && wrapper.get() instanceof Entry entry ? entry : null;
+    }
+
+    private String lockKey(Object key) {
+        return "cache:" + getName() + ":" + key;
+    }
+}
@@ -0,0 +1,129 @@
+package com.dev.ticketing_system.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * L1(노드 로컬 Caffeine) + L2(Redis) 2단계 캐시
+ * - 조회: L1 → L2 순서, L2 에서 읽은 값은 L1 에 채움 (L1 적중 시 네트워크 왕복 없음)
+ * - 변경(put / evict / clear): L2 반영 후 L1 갱신, 다른 노드의 L1 은 Pub/Sub 무효화 메시지로 제거
+ * L1 은 TTL / 최대 크기로 제한되므로 무효화 메시지가 유실되어도 TTL 이후에는 L2 값으로 수렴
+ * L1 에는 객체가 아니라 L2 와 같은 직렬화 바이트를 보관하고 조회마다 역직렬화한 사본을 반환
+ * → 호출자가 반환값(JPA 엔티티 등)을 수정해도 캐시 / 다른 호출자에 영향 없음 (L2 와 동일한 의미)
+ */
+public class TwoLevelCache implements Cache {
+
+    public static final String CLEAR_ALL = "*";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, byte[]> local;
+    private final RedisSerializer<Object> localSerializer;
+    private final Cache remote;
+    private final BiConsumer<String, String> invalidationPublisher; // (캐시 이름, 키 또는 CLEAR_ALL)
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, byte[]> local, RedisSerializer<Object> localSerializer,
+                         Cache remote, BiConsumer<String, String> invalidationPublisher) {
+        this.name = name;
+        this.local = local;
+        this.localSerializer = localSerializer;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = String.valueOf(key);
+        byte[] bytes = local.getIfPresent(localKey);
+        if (bytes != null) {
+            return new SimpleValueWrapper(localSerializer.deserialize(bytes));
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            local.put(localKey, localSerializer.serialize(wrapper.get()));
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (type != null && value != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        try {
+            T value = valueLoader.call();
+            put(key, value);
+            return value;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = String.valueOf(key);
+        if (value != null) {
+            local.put(localKey, localSerializer.serialize(value));
+        } else {
+            local.invalidate(localKey);
+        }
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = String.valueOf(key);
+        local.invalidate(localKey);
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(name, CLEAR_ALL);
+    }
+
+    /**
+     * 다른 노드의 변경 알림 수신 시 L1 만 제거 (L2 는 이미 반영됨)
+     */
+    void invalidateLocal(String key) {
+        if (CLEAR_ALL.equals(key)) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.dev.ticketing_system.config;
+
+import com.dev.ticketing_system.service.SingleFlightLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시별로 StampedeProtectedCache(TwoLevelCache(Caffeine L1, Redis L2)) 를 구성하는 CacheManager
+ * - L1 에는 L2 에 저장된 값(논리 만료 정보 포함)을 L2 와 같은 직렬화 형식으로 두므로, 조기 갱신 / stale 응답 판단도 네트워크 없이 처리
+ * - 캐시 변경 시 cache:invalidate 채널로 "노드ID\n캐시이름\n키" 발행, 자기 메시지는 무시
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, InitializingBean, DisposableBean {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    private final CacheManager remoteCacheManager;
+    private final RedisSerializer<Object> valueSerializer;
+    private final RedissonClient redissonClient;
+    private final SingleFlightLoader singleFlightLoader;
+    private final Duration freshTtl;
+    private final Duration localTtl;
+    private final long localMaxSize;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+    private int listenerId = -1;
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, RedisSerializer<Object> valueSerializer, RedissonClient redissonClient,
+                                SingleFlightLoader singleFlightLoader, Duration freshTtl, Duration localTtl, long localMaxSize) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.valueSerializer = valueSerializer;
+        this.redissonClient = redissonClient;
+        this.singleFlightLoader = singleFlightLoader;
+        this.freshTtl = freshTtl;
+        this.localTtl = localTtl;
+        this.localMaxSize = localMaxSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        RTopic topic = redissonClient.getTopic(INVALIDATION_CHANNEL, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> onInvalidation(message));
+    }
+
+    @Override
+    public void destroy() {
+        if (listenerId != -1) {
+            redissonClient.getTopic(INVALIDATION_CHANNEL, StringCodec.INSTANCE).removeListener(listenerId);
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache remote = remoteCacheManager.getCache(cacheName);
+            if (remote == null) {
+                return null;
+            }
+            TwoLevelCache twoLevelCache = new TwoLevelCache(cacheName,
+                    Caffeine.newBuilder().expireAfterWrite(localTtl).maximumSize(localMaxSize).<String, byte[]>build(),
+                    valueSerializer, remote, this::publishInvalidation);
+            twoLevelCaches.put(cacheName, twoLevelCache);
+            return new StampedeProtectedCache(twoLevelCache, singleFlightLoader, freshTtl);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            redissonClient.getTopic(INVALIDATION_CHANNEL, StringCodec.INSTANCE).publish(nodeId + "\n" + cacheName + "\n" + key);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드의 L1 은 TTL 만료 후 L2 값으로 수렴
+            log.warn("[Cache] 캐시 무효화 발행 실패: cache={}, key={}, reason={}", cacheName, key, e.getMessage());
+        }
+    }
+
+    void onInvalidation(String message) {
+        String[] parts = message.split("\n", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = twoLevelCaches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(parts[2]);
+        }
+    }
+}
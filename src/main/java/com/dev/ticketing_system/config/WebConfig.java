@@ -11,6 +11,8 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final RateLimitInterceptor rateLimitInterceptor;
+    private final QueuePassInterceptor queuePassInterceptor;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // static 폴더 안의 리소스들을 허용
@@ -24,5 +26,9 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addInterceptor(rateLimitInterceptor)
                 .addPathPatterns("/api/**", "/concerts/**") // 보호할 경로 (API + 화면)
                 .excludePathPatterns("/css/**", "/js/**", "/images/**", "/favicon.ico", "/error"); // 제외 경로
+
+        // 입장권 검사 (좌석 선점 / 결제) - 좌석 화면은 컨트롤러에서 검사 후 대기 화면으로 redirect
+        registry.addInterceptor(queuePassInterceptor)
+                .addPathPatterns("/api/seats/*/occupy", "/api/seats/occupy-batch", "/payment/process");
     }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.dev.ticketing_system.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -10,12 +13,25 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 서버 -> 클라이언트로 메시지 보낼 때 붙일 주소 (구독용)
         config.enableSimpleBroker("/topic");
         // 클라이언트 -> 서버로 메시지 보낼 때 붙일 주소 (이번엔 안 씀)
         config.setApplicationDestinationPrefixes("/app");
+        // 세션별 발행 순서 유지 → 순번/예상 시간 갱신과 입장 알림이 뒤바뀌어 도착하지 않음 (가상 스레드 전송 시 필수)
+        config.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 가상 스레드 모드: 느린 클라이언트로의 전송 대기가 고정 크기 스레드 풀을 점유하지 않도록 메시지마다 가상 스레드에서 전송
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-outbound-"));
+        }
     }
 
     @Override
@@ -1,11 +1,18 @@
 package com.dev.ticketing_system.consumer;
 
+import com.dev.ticketing_system.config.KafkaTopicConfig;
+import com.dev.ticketing_system.dto.PaymentEvent;
 import com.dev.ticketing_system.service.PaymentConfirmService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -13,18 +20,59 @@ public class PaymentConsumer {
 
     private final PaymentConfirmService paymentConfirmService;
 
-    @KafkaListener(topics = "payment-completed", groupId = "ticketing-group")
-    public void consume(String message) {
-        log.info(">>> [Consumer] payment-completed 수신: {}", message);
+    /**
+     * poll 된 결제 완료 이벤트를 묶음으로 처리
+     * - 정상 메시지는 UPDATE 한 번으로 일괄 SOLD 처리
+     * - 형식이 잘못된 메시지 / 일괄 처리 중 실패한 메시지는 해당 index 로 BatchListenerFailedException → 재시도 후 DLT
+     * - 역직렬화(PaymentEventDeserializer)에 실패한 레코드는 ErrorHandlingDeserializer 에 의해 value 가 null 로 전달됨
+     */
+    @KafkaListener(topics = KafkaTopicConfig.PAYMENT_COMPLETED_TOPIC, groupId = "ticketing-group", containerFactory = "batchKafkaListenerContainerFactory")
+    public void consume(List<ConsumerRecord<String, PaymentEvent>> records) {
+        log.info(">>> [Consumer] payment-completed 배치 수신: {}건", records.size());
+
+        List<PaymentEvent> events = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            PaymentEvent event = records.get(i).value();
+            if (event == null) {
+                // 잘못된 메시지 앞까지는 정상 처리하고, 잘못된 메시지는 재시도 없이 DLT 로 보냄 (원본 바이트 그대로)
+                confirmAll(events);
+                IllegalArgumentException e = new IllegalArgumentException(
+                        "Invalid payment message at offset " + records.get(i).offset());
+                throw new BatchListenerFailedException(e.getMessage(), e, i);
+            }
+            events.add(event);
+        }
+
+        confirmAll(events);
+    }
 
-        String[] data = message.split(":");
-        if (data.length != 2) {
-            throw new IllegalArgumentException("Invalid payment message format: " + message);
+    private void confirmAll(List<PaymentEvent> events) {
+        if (events.isEmpty()) {
+            return;
         }
 
-        Long seatId = Long.parseLong(data[0]);
-        String userId = data[1];
+        List<Long> seatIds = new ArrayList<>();
+        events.forEach(event -> seatIds.addAll(event.getSeatIds()));
 
-        paymentConfirmService.confirmPayment(seatId, userId);
+        try {
+            paymentConfirmService.confirmPayments(seatIds);
+        } catch (Exception e) {
+            log.warn(">>> [Consumer] 일괄 처리 실패 - 개별 처리로 전환: {}", e.getMessage());
+            confirmOneByOne(events);
+        }
+    }
+
+    // 실패한 메시지 위치를 찾기 위해 한 건씩 처리 (SOLD 처리는 멱등이므로 재처리해도 안전)
+    private void confirmOneByOne(List<PaymentEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            PaymentEvent event = events.get(i);
+            try {
+                for (Long seatId : event.getSeatIds()) {
+                    paymentConfirmService.confirmPayment(seatId, event.getUserId());
+                }
+            } catch (Exception e) {
+                throw new BatchListenerFailedException(e.getMessage(), e, i);
+            }
+        }
     }
 }
@@ -1,18 +1,28 @@
 package com.dev.ticketing_system.consumer;
 
+import com.dev.ticketing_system.config.KafkaTopicConfig;
+import com.dev.ticketing_system.config.PaymentEventDeserializer;
+import com.dev.ticketing_system.dto.PaymentEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
 @Slf4j
 @Component
 public class PaymentDltConsumer {
 
-    @KafkaListener(topics = "payment-completed.DLT", groupId = "ticketing-dlt-group")
+    /**
+     * DLT 에는 정상 이벤트(바이너리)와 역직렬화에 실패한 원본 바이트가 섞여 들어오므로
+     * 원본 바이트로 받아서 로그용으로만 해석 (여기서 다시 실패해 DLT 의 DLT 로 가는 일이 없도록)
+     */
+    @KafkaListener(topics = KafkaTopicConfig.PAYMENT_COMPLETED_DLT, groupId = "ticketing-dlt-group",
+            properties = "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer")
     public void consumeDlt(
-            String message,
+            byte[] message,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(name = KafkaHeaders.DLT_ORIGINAL_TOPIC, required = false) String originalTopic,
             @Header(name = KafkaHeaders.DLT_ORIGINAL_OFFSET, required = false) Long originalOffset,
@@ -22,7 +32,20 @@ public class PaymentDltConsumer {
                 topic,
                 originalTopic,
                 originalOffset,
-                message,
+                describe(message),
                 exceptionMessage);
     }
+
+    private String describe(byte[] message) {
+        if (message == null) {
+            return null;
+        }
+        try {
+            PaymentEvent event = PaymentEventDeserializer.decode(message);
+            return "concertId=" + event.getConcertId() + ", seatIds=" + event.getSeatIds() + ", userId=" + event.getUserId()
+                    + ", amount=" + event.getAmount() + ", idempotencyKey=" + event.getIdempotencyKey();
+        } catch (IllegalArgumentException e) {
+            return new String(message, StandardCharsets.UTF_8);
+        }
+    }
 }
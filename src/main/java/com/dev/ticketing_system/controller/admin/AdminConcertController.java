@@ -25,7 +25,7 @@ public class AdminConcertController {
     // 공연 목록 조회
     @GetMapping
     public String list(Model model) {
-        model.addAttribute("concerts", concertRepository.findAll());
+        model.addAttribute("concerts", concertService.findAll());
         return "admin/concert/list";
     }
 
@@ -65,9 +65,7 @@ public class AdminConcertController {
     // 수정 실행
     @PostMapping("/{id}/edit")
     public String update(@PathVariable Long id, @ModelAttribute Concert concertData) {
-        Concert concert = concertRepository.findById(id).orElseThrow();
-        concert.update(concertData.getTitle(), concertData.getVenue(), concertData.getTotalSeats());
-        concertRepository.save(concert);
+        concertService.update(id, concertData.getTitle(), concertData.getVenue(), concertData.getTotalSeats());
         return "redirect:/admin/concerts/" + id;
     }
 
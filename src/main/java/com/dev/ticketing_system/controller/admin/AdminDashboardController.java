@@ -2,12 +2,13 @@ package com.dev.ticketing_system.controller.admin;
 
 import com.dev.ticketing_system.dto.ConcertDashboardDto;
 import com.dev.ticketing_system.entity.Concert;
-import com.dev.ticketing_system.repository.ConcertRepository;
 import com.dev.ticketing_system.service.AdminDashboardService;
+import com.dev.ticketing_system.service.ConcertService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -18,21 +19,23 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AdminDashboardController {
 
-    private final ConcertRepository concertRepository;
+    private final ConcertService concertService;
     private final AdminDashboardService adminDashboardService;
 
     @GetMapping
     public String dashboard(Model model, @RequestParam(required = false) Long concertId) {
-        List<Concert> concerts = concertRepository.findAll();
+        List<Concert> concerts = concertService.findAll();
         model.addAttribute("concerts", concerts);
 
         if (concerts.isEmpty()) {
             return "admin/dashboard";
         }
 
-        Concert targetConcert = (concertId == null)
-                ? concerts.get(0)
-                : concertRepository.findById(concertId).orElse(concerts.get(0));
+        // 캐시된 공연 목록에서 선택 (추가 DB 조회 없음)
+        Concert targetConcert = concerts.stream()
+                .filter(concert -> concert.getId().equals(concertId))
+                .findFirst()
+                .orElse(concerts.get(0));
 
         ConcertDashboardDto dashboardDto = adminDashboardService.getDashboardStats(targetConcert);
 
@@ -41,4 +44,10 @@ public class AdminDashboardController {
 
         return "admin/dashboard";
     }
+
+    @PostMapping("/expel")
+    public String expel(@RequestParam Long concertId, @RequestParam String userId) {
+        adminDashboardService.expelUser(concertId, userId);
+        return "redirect:/admin/dashboard?concertId=" + concertId;
+    }
 }
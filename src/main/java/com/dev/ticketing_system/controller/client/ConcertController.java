@@ -1,15 +1,15 @@
 package com.dev.ticketing_system.controller.client;
 
 import com.dev.ticketing_system.dto.QueueStatusDto;
-import com.dev.ticketing_system.entity.Seat;
-import com.dev.ticketing_system.repository.ConcertRepository;
-import com.dev.ticketing_system.repository.SeatRepository;
+import com.dev.ticketing_system.dto.SeatResponseDto;
+import com.dev.ticketing_system.service.ConcertService;
+import com.dev.ticketing_system.service.QueuePassService;
 import com.dev.ticketing_system.service.QueueService;
+import com.dev.ticketing_system.service.SeatService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
-import org.redisson.api.RedissonClient;
 
 import java.util.List;
 
@@ -18,14 +18,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ConcertController {
 
-    private final SeatRepository seatRepository;
-    private final RedissonClient redissonClient;
-    private final ConcertRepository concertRepository;
+    private final SeatService seatService;
+    private final ConcertService concertService;
     private final QueueService queueService;
+    private final QueuePassService queuePassService;
 
     @GetMapping("")
     public String index(Model model) {
-        model.addAttribute("concerts", concertRepository.findAll());
+        model.addAttribute("concerts", concertService.findAll());
         return "client/index";
     }
 
@@ -38,21 +38,21 @@ public class ConcertController {
     }
 
     @GetMapping("/{id}/seats")
-    public String seatSelectionPage(@PathVariable Long id, @RequestParam String userId, Model model) {
-        if (!queueService.isAllowed(id, userId)) {
+    public String seatSelectionPage(@PathVariable Long id, @RequestParam String userId,
+                                    @CookieValue(value = QueuePassService.COOKIE_NAME, required = false) String pass,
+                                    Model model) {
+        if (queuePassService.verify(pass, id, userId) == null) {
             return "redirect:/concerts/" + id + "/wait?userId=" + userId;
         }
 
-        List<Seat> seats = seatRepository.findByConcertIdOrderBySeatNumberAsc(id);
-
-        for (Seat seat : seats) {
-            String lockKey = "seat:lock:" + seat.getId();
-            if (redissonClient.getBucket(lockKey).isExists()) {
-                seat.setTemporaryStatus("OCCUPIED");
-            }
-        }
+        // 버전을 목록보다 먼저 읽어야 그 사이 변경분이 증분 조회에서 빠지지 않음 (그 사이 재로딩되면 epoch 불일치 → 전체 스냅샷)
+        long seatMapEpoch = seatService.getSeatMapEpoch(id);
+        long seatMapVersion = seatService.getSeatMapVersion(id);
+        List<SeatResponseDto> seats = seatService.getAvailableSeats(id);
 
         model.addAttribute("concertId", id);
+        model.addAttribute("seatMapEpoch", seatMapEpoch);
+        model.addAttribute("seatMapVersion", seatMapVersion);
         model.addAttribute("userId", userId);
         model.addAttribute("seats", seats);
         return "client/concert/seats";
@@ -3,14 +3,14 @@ package com.dev.ticketing_system.controller.client;
 import com.dev.ticketing_system.dto.ApiResponse;
 import com.dev.ticketing_system.exception.SeatAlreadyTakenException;
 import com.dev.ticketing_system.service.PaymentService;
+import com.dev.ticketing_system.service.SeatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -19,18 +19,19 @@ import java.util.Map;
 public class PaymentController {
 
     private final PaymentService paymentService;
-    private final RedissonClient redissonClient;
+    private final SeatService seatService;
 
     @PostMapping("/payment/process")
-    public ResponseEntity<ApiResponse<?>> processPayment(@RequestParam Long seatId,
+    public ResponseEntity<ApiResponse<?>> processPayment(@RequestParam Long concertId,
+                                                         @RequestParam("seatId") List<Long> seatIds,
                                                          @RequestParam String userId,
                                                          @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 
-        String finalKey = (idempotencyKey != null) ? idempotencyKey : "NO_KEY_" + seatId + "_" + userId + "_" + System.currentTimeMillis();
-        log.info("API 결제 요청 진입: seatId={}, userId={}, idemKey={}", seatId, userId, finalKey);
+        String finalKey = (idempotencyKey != null) ? idempotencyKey : "NO_KEY_" + seatIds + "_" + userId + "_" + System.currentTimeMillis();
+        log.info("API 결제 요청 진입: seatIds={}, userId={}, idemKey={}", seatIds, userId, finalKey);
 
         try {
-            paymentService.validateAndPay(seatId, userId, finalKey);
+            paymentService.validateAndPay(concertId, seatIds, userId, finalKey);
             return ResponseEntity.ok(ApiResponse.success(Map.of("message", "결제 요청이 접수되었습니다.", "status", "success")));
 
         } catch (IllegalArgumentException e) {
@@ -48,19 +49,18 @@ public class PaymentController {
     }
 
     @PostMapping("/api/payments/cancel")
-    public ResponseEntity<ApiResponse<?>> cancelPayment(@RequestParam Long seatId) {
-        String lockKey = "seat:lock:" + seatId;
-        RLock lock = redissonClient.getLock(lockKey);
-
+    public ResponseEntity<ApiResponse<?>> cancelPayment(@RequestParam("seatId") List<Long> seatIds,
+                                                        @RequestParam Long concertId,
+                                                        @RequestParam String userId) {
         try {
-            if (lock.isLocked()) {
-                lock.forceUnlock();
-                log.info("결제 취소로 인한 락 해제 완료: seatId={}", seatId);
+            int released = seatService.releaseSeats(seatIds, concertId, userId);
+            if (released > 0) {
+                log.info("결제 취소로 인한 좌석 점유 해제 완료: seatIds={}, userId={}, released={}", seatIds, userId, released);
             }
             return ResponseEntity.ok(ApiResponse.success("결제가 취소되어 좌석 선점이 해제되었습니다."));
 
         } catch (Exception e) {
-            log.error("락 해제 중 오류 발생", e);
+            log.error("좌석 점유 해제 중 오류 발생", e);
             return ResponseEntity.ok(ApiResponse.error("이미 해제되었거나 오류가 발생했습니다."));
         }
     }
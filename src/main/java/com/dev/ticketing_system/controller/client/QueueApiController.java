@@ -3,14 +3,18 @@ package com.dev.ticketing_system.controller.client;
 import com.dev.ticketing_system.dto.ApiResponse;
 import com.dev.ticketing_system.dto.QueueStatusDto;
 import com.dev.ticketing_system.service.CaptchaService;
+import com.dev.ticketing_system.service.QueuePassService;
 import com.dev.ticketing_system.service.QueueService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.Map;
 
 @Slf4j
@@ -21,21 +25,21 @@ public class QueueApiController {
 
     private final QueueService queueService;
     private final CaptchaService captchaService;
+    private final QueuePassService queuePassService;
 
     @GetMapping("/captcha")
     public ResponseEntity<ApiResponse<Map<String, String>>> getCaptcha(HttpSession session) {
-        String code = captchaService.generateCaptcha(session.getId());
-        return ResponseEntity.ok(ApiResponse.success(Map.of("captcha", code)));
+        CaptchaService.Challenge challenge = captchaService.generateCaptcha(session.getId());
+        return ResponseEntity.ok(ApiResponse.success(Map.of("captcha", challenge.captcha(), "captchaToken", challenge.token())));
     }
 
     @PostMapping("/token")
     public ResponseEntity<ApiResponse<?>> enterQueue(@RequestParam Long concertId,
                                                      @RequestParam String userId,
                                                      @RequestParam String captchaInput,
+                                                     @RequestParam String captchaToken,
                                                      HttpSession session) {
-        String lookupKey = session.getId();
-
-        if (!captchaService.validateCaptcha(lookupKey, captchaInput)) {
+        if (!captchaService.validateCaptcha(session.getId(), captchaToken, captchaInput)) {
             log.warn("캡차 검증 실패 - userId: {}, input: {}", userId, captchaInput);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error("잘못된 보안 문자입니다."));
@@ -51,4 +55,30 @@ public class QueueApiController {
         QueueStatusDto status = queueService.getQueueStatus(concertId, userId);
         return ResponseEntity.ok(ApiResponse.success(status));
     }
+
+    /**
+     * 입장 처리된 유저에게 서명된 입장권을 쿠키로 발급 (입장 1회당 Redis 확인 1번)
+     * 이후 좌석 화면 / 좌석 선점 / 결제 요청은 입장권만 노드 로컬에서 검증
+     */
+    @PostMapping("/pass")
+    public ResponseEntity<ApiResponse<?>> issuePass(@RequestParam Long concertId,
+                                                    @RequestParam String userId) {
+        Long expiresAt = queueService.getActiveExpiry(concertId, userId);
+        if (expiresAt == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(ApiResponse.error("아직 입장 순서가 아닙니다."));
+        }
+
+        String token = queuePassService.issue(concertId, userId, expiresAt);
+        ResponseCookie cookie = ResponseCookie.from(QueuePassService.COOKIE_NAME, token)
+                .httpOnly(true)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(Duration.ofMillis(Math.max(0, expiresAt - System.currentTimeMillis())))
+                .build();
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                .body(ApiResponse.success("입장권 발급 완료"));
+    }
 }
@@ -1,12 +1,22 @@
 package com.dev.ticketing_system.controller.client;
 
 import com.dev.ticketing_system.dto.ApiResponse;
+import com.dev.ticketing_system.dto.SeatMapSnapshot;
+import com.dev.ticketing_system.dto.SeatResponseDto;
+import com.dev.ticketing_system.service.ConcertSeatMap;
+import com.dev.ticketing_system.service.SeatMapCache;
 import com.dev.ticketing_system.service.SeatService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/seats")
@@ -14,6 +24,50 @@ import java.util.Collections;
 public class SeatApiController {
 
     private final SeatService seatService;
+    private final SeatMapCache seatMapCache;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SeatResponseDto>>> getSeats(@RequestParam Long concertId) {
+        return ResponseEntity.ok(ApiResponse.success(seatService.getAvailableSeats(concertId)));
+    }
+
+    /**
+     * 좌석 맵 (버전 단위 스냅샷)
+     * - epoch + since 를 주면 그 버전 이후 변경분만 응답, epoch 가 다르거나 이력이 부족하면 전체 스냅샷으로 응답 (data.full 로 구분)
+     * - 전체 스냅샷은 미리 직렬화 / gzip 압축해 둔 바이트를 그대로 내려주고 ETag 가 같으면 304
+     */
+    @GetMapping("/map")
+    public ResponseEntity<?> getSeatMap(@RequestParam Long concertId,
+                                        @RequestParam(required = false) Long epoch,
+                                        @RequestParam(required = false) Long since,
+                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (epoch != null && since != null) {
+            ConcertSeatMap.Changes changes = seatMapCache.getChanges(concertId, epoch, since);
+            if (changes != null) {
+                return ResponseEntity.ok()
+                        .cacheControl(CacheControl.noStore())
+                        .body(ApiResponse.success(Map.of("epoch", changes.epoch(), "version", changes.version(),
+                                "full", false, "changes", changes.changes())));
+            }
+        }
+
+        SeatMapSnapshot snapshot = seatMapCache.getSnapshot(concertId);
+        if (snapshot.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
 
     @PostMapping("/{seatId}/occupy")
     public ResponseEntity<ApiResponse<?>> occupy(@PathVariable Long seatId,
@@ -23,4 +77,15 @@ public class SeatApiController {
         seatService.occupySeat(seatId, concertId, userId, lockType);
         return ResponseEntity.ok(ApiResponse.success(Collections.singletonMap("success", true)));
     }
+
+    /**
+     * 일행 예매: 같은 공연의 좌석 여러 개를 한 번에 선점 (하나라도 실패하면 전부 실패)
+     */
+    @PostMapping("/occupy-batch")
+    public ResponseEntity<ApiResponse<?>> occupyBatch(@RequestParam Long concertId,
+                                                      @RequestParam String userId,
+                                                      @RequestParam List<Long> seatIds) {
+        seatService.holdSeats(seatIds, concertId, userId);
+        return ResponseEntity.ok(ApiResponse.success(Map.of("success", true, "seatIds", seatIds)));
+    }
 }
@@ -0,0 +1,24 @@
+package com.dev.ticketing_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * payment-completed 토픽 이벤트
+ * 직렬화 포맷은 PaymentEventSerializer / PaymentEventDeserializer 참고 (버전 바이트 + 고정 레이아웃 바이너리)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PaymentEvent {
+
+    private final Long concertId;      // 구버전 문자열 메시지는 공연 정보가 없으므로 null
+    private final List<Long> seatIds;
+    private final String userId;
+    private final long amount;
+    private final String idempotencyKey;
+    private final long createdAt;      // 발행 시각 (epoch ms)
+}
@@ -0,0 +1,9 @@
+package com.dev.ticketing_system.dto;
+
+/**
+ * 미리 직렬화 / 압축해 둔 좌석 맵 응답 본문 (버전이 바뀔 때만 새로 생성)
+ * - json: ApiResponse 형식 그대로의 JSON 바이트, gzip: 같은 내용의 gzip 압축본
+ * - epoch: 좌석 맵 로딩 구분 값 (재로딩 후 같은 버전이라도 다른 스냅샷)
+ */
+public record SeatMapSnapshot(Long concertId, long epoch, long version, String etag, byte[] json, byte[] gzip) {
+}
@@ -0,0 +1,43 @@
+package com.dev.ticketing_system.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 이벤트 아웃박스
+ * - 결제 요청 트랜잭션 안에서 INSERT 만 하고, Kafka 발행은 PaymentOutboxRelay 가 비동기로 처리
+ * - payload 는 PaymentEventSerializer 로 인코딩된 바이트를 그대로 보관 (발행 시 재인코딩 없음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "payment_outbox")
+public class PaymentOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String topic;
+
+    private String messageKey;
+
+    @Column(nullable = false, length = 2048)
+    private byte[] payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    public PaymentOutbox(String topic, String messageKey, byte[] payload) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
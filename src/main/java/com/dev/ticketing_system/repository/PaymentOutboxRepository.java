@@ -0,0 +1,26 @@
+package com.dev.ticketing_system.repository;
+
+import com.dev.ticketing_system.entity.PaymentOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long> {
+
+    // 미발행 이벤트를 오래된 순으로 가져오면서 행 잠금 (다른 노드의 릴레이는 잠긴 행을 건너뛰고 다음 행을 가져감)
+    @Query(value = "SELECT * FROM payment_outbox WHERE sent_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PaymentOutbox> findUnsentForUpdate(@Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PaymentOutbox o SET o.sentAt = :sentAt WHERE o.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("DELETE FROM PaymentOutbox o WHERE o.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
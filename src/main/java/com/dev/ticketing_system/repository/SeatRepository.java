@@ -4,9 +4,11 @@ import com.dev.ticketing_system.entity.Seat;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +35,9 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select s from Seat s where s.id = :id")
     Optional<Seat> findByIdWithPessimisticLock(@Param("id") Long id);
-}
\ No newline at end of file
+
+    // 결제 완료 이벤트 일괄 반영: 아직 AVAILABLE 인 좌석만 SOLD 로 변경 (이미 SOLD 면 건너뜀 → 멱등)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE seats SET status = 'SOLD', version = version + 1 WHERE id IN (:seatIds) AND status = 'AVAILABLE'", nativeQuery = true)
+    int markSoldByIds(@Param("seatIds") Collection<Long> seatIds);
+}
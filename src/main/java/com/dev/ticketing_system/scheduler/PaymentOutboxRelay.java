@@ -0,0 +1,49 @@
+package com.dev.ticketing_system.scheduler;
+
+import com.dev.ticketing_system.service.PaymentOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxRelay {
+
+    private final PaymentOutboxService paymentOutboxService;
+
+    @Value("${ticketing.outbox.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 아웃박스 → Kafka 발행
+     * 한 묶음이 가득 찼으면 밀린 이벤트가 있다는 뜻이므로 다음 주기를 기다리지 않고 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${ticketing.outbox.relay-interval-ms:200}")
+    public void relay() {
+        try {
+            int sent;
+            do {
+                sent = paymentOutboxService.relayBatch(batchSize);
+                if (sent > 0) {
+                    log.debug("[Outbox] 결제 이벤트 발행: {}건", sent);
+                }
+            } while (sent == batchSize);
+        } catch (Exception e) {
+            log.warn("[Outbox] 릴레이 실패: {}", e.getMessage());
+        }
+    }
+
+    // 발행 완료 후 하루 지난 행 정리
+    @Scheduled(cron = "0 0 * * * *")
+    public void purge() {
+        int deleted = paymentOutboxService.purgeSent(LocalDateTime.now().minusDays(1));
+        if (deleted > 0) {
+            log.info("[Outbox] 발행 완료 이벤트 정리: {}건", deleted);
+        }
+    }
+}
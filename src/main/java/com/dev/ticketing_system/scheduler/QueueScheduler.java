@@ -1,41 +1,98 @@
 package com.dev.ticketing_system.scheduler;
 
+import com.dev.ticketing_system.config.QueueAdmissionProperties;
 import com.dev.ticketing_system.entity.Concert;
-import com.dev.ticketing_system.repository.ConcertRepository;
+import com.dev.ticketing_system.service.ConcertService;
+import com.dev.ticketing_system.service.QueueNotificationService;
+import com.dev.ticketing_system.service.QueueRateEstimator;
 import com.dev.ticketing_system.service.QueueService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
+/**
+ * 대기열 입장 스케줄러
+ * - Redis 리스를 가진 리더 노드 1대만 입장 처리 → 노드 수가 늘어도 입장 인원이 배로 늘지 않음
+ * - 공연별 초당 입장 인원 x 지난 주기 경과 시간만큼 입장, 소수점 이하는 다음 주기로 이월
+ * - 초당 입장 인원은 QueueRateEstimator 가 좌석 선택/결제 단계 인원에 맞춰 조절 (상한 = QueueAdmissionProperties)
+ * - 예상 대기 시간용 속도는 QueueRateEstimator 가 active 에서 실제로 빠져나간 인원으로 측정
+ * - 입장 알림은 QueueNotificationService 가 Redis 채널로 전 노드에 전달
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class QueueScheduler {
 
+    private static final String LEASE_NAME = "queue-admission";
+    private static final int LEASE_TICKS = 5;      // 리더가 5 주기 동안 갱신하지 못하면 다른 노드가 이어받음
+    private static final int MAX_CATCH_UP_TICKS = 3; // 지연된 주기를 한 번에 몰아서 입장시키지 않도록 상한
+
     private final QueueService queueService;
-    private final ConcertRepository concertRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ConcertService concertService;
+    private final QueueNotificationService notificationService;
+    private final SchedulerLeaderLease leaderLease;
+    private final QueueAdmissionProperties admissionProperties;
+    private final QueueRateEstimator rateEstimator;
+
+    // admissionCredits / appliedConcertIds / lastTickAt 은 processQueue 에서만 접근 (스케줄러 풀이 여러 스레드여도 단일 소유)
+    private final Map<Long, Double> admissionCredits = new HashMap<>();
+    private volatile List<Long> concertIds = List.of();
+    private List<Long> appliedConcertIds = List.of();
+    private volatile long lastTickAt;
+
+    /**
+     * 공연 목록은 입장 주기마다 DB 를 조회하지 않고 별도 주기로 갱신
+     * 목록 교체만 하고, 입장 상태 정리는 다음 processQueue 주기에서 반영
+     */
+    @Scheduled(fixedDelay = 10000)
+    public void refreshConcerts() {
+        concertIds = concertService.findAll().stream().map(Concert::getId).toList();
+    }
 
-    @Scheduled(fixedDelay = 3000)
+    @Scheduled(fixedDelayString = "${ticketing.queue.admission.tick-ms:1000}")
     public void processQueue() {
-        List<Concert> concerts = concertRepository.findAll();
-        if (concerts.isEmpty()) return;
-
-        for (Concert concert : concerts) {
-            Set<String> enteredTokens = queueService.allowEntry(concert.getId(), 100);
-
-            if (enteredTokens != null && !enteredTokens.isEmpty()) {
-                for (String userId : enteredTokens) {
-                    log.info("WebSocket 알림 발송: user={}", userId);
-                    messagingTemplate.convertAndSend("/topic/queue/" + userId, Map.of("pass", true));
-                }
-            }
+        List<Long> concertIds = applyConcertList();
+        long tickMs = admissionProperties.getTickMs();
+
+        if (!leaderLease.acquireOrRenew(LEASE_NAME, tickMs * LEASE_TICKS)) {
+            lastTickAt = 0; // 리더가 아닌 동안 쌓인 시간은 입장 인원으로 계산하지 않음
+            rateEstimator.resetActiveSamples();
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long elapsedMs = (lastTickAt == 0) ? tickMs : Math.min(now - lastTickAt, tickMs * MAX_CATCH_UP_TICKS);
+        lastTickAt = now;
+
+        for (Long concertId : concertIds) {
+            double credit = admissionCredits.getOrDefault(concertId, 0.0)
+                    + rateEstimator.targetRate(concertId) * elapsedMs / 1000.0;
+            int count = (int) credit;
+            admissionCredits.put(concertId, credit - count);
+
+            // count 가 0 이어도 호출 → 만료된 입장 유저 정리가 매 주기 수행됨
+            QueueService.Admission admission = queueService.allowEntry(concertId, count);
+            rateEstimator.recordAdmission(concertId, admission.userIds().size(), admission.activeCount(), elapsedMs);
+
+            // WebSocket 전송은 각 노드가 자기 세션에만 비동기로 처리 (스케줄러 스레드는 발행 1회만 부담)
+            notificationService.publishAdmitted(concertId, admission.userIds());
+        }
+
+        rateEstimator.publish();
+    }
+
+    private List<Long> applyConcertList() {
+        List<Long> current = concertIds;
+        if (current != appliedConcertIds) {
+            admissionCredits.keySet().retainAll(current);
+            rateEstimator.retainConcerts(current);
+            appliedConcertIds = current;
         }
+        return current;
     }
 }
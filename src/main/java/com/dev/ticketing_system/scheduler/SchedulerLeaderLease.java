@@ -0,0 +1,85 @@
+package com.dev.ticketing_system.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 리스 기반 스케줄러 리더 선출
+ * - scheduler:leader:{name} 키를 SET NX PX 로 선점한 노드만 리더
+ * - 리더는 매 주기마다 TTL 을 연장, 리더 노드가 죽으면 TTL 만료 후 다른 노드가 이어받음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerLeaderLease {
+
+    private static final String LEASE_KEY = "scheduler:leader:";
+
+    /**
+     * KEYS[1] = 리스 키, ARGV[1] = 노드 ID, ARGV[2] = TTL(ms)
+     * 반환: 1 리더(신규 획득 또는 연장), 0 다른 노드가 리더
+     */
+    private static final String ACQUIRE_SCRIPT = """
+            local owner = redis.call('GET', KEYS[1])
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            if not owner then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            return 0
+            """;
+
+    private static final String RELEASE_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    private final RedissonClient redissonClient;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<String> heldLeases = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @return 이 노드가 리더이면 true
+     */
+    public boolean acquireOrRenew(String name, long ttlMillis) {
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, ACQUIRE_SCRIPT,
+                RScript.ReturnType.INTEGER, List.of(LEASE_KEY + name), nodeId, String.valueOf(ttlMillis));
+
+        boolean leader = result == 1L;
+        if (leader && heldLeases.add(name)) {
+            log.info("[Leader] 스케줄러 리더 획득: name={}, node={}", name, nodeId);
+        } else if (!leader && heldLeases.remove(name)) {
+            log.info("[Leader] 스케줄러 리더 상실: name={}, node={}", name, nodeId);
+        }
+        return leader;
+    }
+
+    // 정상 종료 시 TTL 만료를 기다리지 않고 바로 넘겨줌
+    @PreDestroy
+    public void releaseAll() {
+        for (String name : heldLeases) {
+            try {
+                redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, RELEASE_SCRIPT,
+                        RScript.ReturnType.INTEGER, List.of(LEASE_KEY + name), nodeId);
+            } catch (Exception e) {
+                log.warn("[Leader] 리스 반납 실패: name={}, reason={}", name, e.getMessage());
+            }
+        }
+        heldLeases.clear();
+    }
+}
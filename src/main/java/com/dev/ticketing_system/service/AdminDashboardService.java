@@ -5,32 +5,32 @@ import com.dev.ticketing_system.entity.Concert;
 import com.dev.ticketing_system.entity.Seat;
 import com.dev.ticketing_system.repository.SeatRepository;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RedissonClient;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.text.NumberFormat;
 import java.util.Locale;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AdminDashboardService {
 
     private final SeatRepository seatRepository;
-    private final RedissonClient redissonClient;
+    private final QueueService queueService;
+    private final QueuePassService queuePassService;
 
     public ConcertDashboardDto getDashboardStats(Concert concert) {
         Long targetId = concert.getId();
 
-        String queueKey = "concert:queue:" + targetId;
-        int queueSize = redissonClient.getScoredSortedSet(queueKey).size();
+        int queueSize = queueService.getQueueSize(targetId);
 
         int soldCount = seatRepository.countByConcertIdAndStatus(targetId, Seat.SeatStatus.SOLD);
         long totalSeats = concert.getTotalSeats();
 
-        long ticketPrice = 100000;
-        long totalRevenue = soldCount * ticketPrice;
+        long totalRevenue = soldCount * PaymentService.TICKET_PRICE;
 
         double salesRate = (totalSeats > 0) ? ((double) soldCount / totalSeats) * 100 : 0;
 
@@ -44,4 +44,13 @@ public class AdminDashboardService {
                 .salesRate(String.format("%.1f", salesRate))
                 .build();
     }
+
+    /**
+     * 입장 유저 강제 퇴장 (active 제거 + 발급된 입장권 폐기)
+     */
+    public void expelUser(Long concertId, String userId) {
+        boolean removed = queueService.removeActive(concertId, userId);
+        queuePassService.revoke(concertId, userId);
+        log.info("[Admin] 강제 퇴장: concertId={}, userId={}, active 제거={}", concertId, userId, removed);
+    }
 }
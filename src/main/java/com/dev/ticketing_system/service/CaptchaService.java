@@ -1,40 +1,170 @@
 package com.dev.ticketing_system.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
 import java.time.Duration;
-import java.util.UUID;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
+/**
+ * 캡차 서비스 (발급 시 Redis 쓰기 없음)
+ * - 챌린지 토큰 = (만료 시각, nonce) + HMAC(만료 시각, nonce, 세션 ID, 정답) → 정답은 서버에 저장하지 않고 서명으로만 검증
+ * - 재사용 방지: 서명이 맞는 요청만 nonce 를 시간 구간별 Redis SET(captcha:used:{구간}) 에 SADD (이미 있으면 거절)
+ * - 정답 문자열 / nonce 는 노드 로컬 풀에 미리 만들어 두고 꺼내 씀 (오픈 순간 SecureRandom 경합 방지)
+ * - load-test 모드: 세션 바인딩만 생략 (세션 없이 챌린지를 미리 받아 두는 부하 발생기용), 서명 / nonce 검증은 그대로 수행
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CaptchaService {
 
+    private static final String USED_NONCE_KEY_PREFIX = "captcha:used:";
+    private static final String ANSWER_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789"; // 헷갈리는 문자(0/O, 1/I) 제외
+    private static final int ANSWER_LENGTH = 6;
+    private static final Duration CAPTCHA_TTL = Duration.ofMinutes(3);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * KEYS[1] = captcha:used:{구간}
+     * ARGV[1] = nonce, ARGV[2] = 키 만료 시각(ms)
+     * 반환: 1 최초 사용, 0 이미 사용된 nonce
+     */
+    private static final String CONSUME_NONCE_SCRIPT = """
+            local added = redis.call('SADD', KEYS[1], ARGV[1])
+            if added == 1 then
+                redis.call('PEXPIREAT', KEYS[1], ARGV[2])
+            end
+            return added
+            """;
+
     private final RedissonClient redissonClient;
-    private static final String CAPTCHA_KEY_PREFIX = "captcha:";
 
-    // 1. 캡차 생성 (난수 문자열)
-    public String generateCaptcha(String sessionId) {
-        String randomStr = UUID.randomUUID().toString().substring(0, 6).toUpperCase(); // 6자리 난수
-        RBucket<String> bucket = redissonClient.getBucket(CAPTCHA_KEY_PREFIX + sessionId);
-        bucket.set(randomStr, Duration.ofMinutes(3)); // 3분 유효
-        return randomStr;
+    @Value("${ticketing.queue.pass.secret}")
+    private String secret;
+
+    @Value("${ticketing.captcha.pool-size:10000}")
+    private int poolSize = 10000;
+
+    @Value("${ticketing.captcha.load-test:false}")
+    private boolean loadTest;
+
+    private SecretKeySpec signingKey;
+    private BlockingQueue<Seed> pool;
+
+    public record Challenge(String captcha, String token) {
+    }
+
+    private record Seed(String answer, String nonce) {
     }
 
-    // 2. 캡차 검증
-    public boolean validateCaptcha(String sessionId, String userInput) {
-        if ("JMETER_BYPASS_KEY".equals(userInput)) {
-            return true;
+    @PostConstruct
+    public void init() {
+        // 입장권과 같은 마스터 secret 에서 캡차 전용 키 파생 (입장권 서명 키와 분리)
+        SigningSecrets.requireStrong("ticketing.queue.pass.secret", secret);
+        signingKey = SigningSecrets.derive(secret, "captcha");
+        pool = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+        refillPool();
+        if (loadTest) {
+            log.warn("[Captcha] load-test 모드: 세션 바인딩 없이 챌린지 검증");
         }
-        RBucket<String> bucket = redissonClient.getBucket(CAPTCHA_KEY_PREFIX + sessionId);
-        String realCaptcha = bucket.get();
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void refillPool() {
+        while (pool.remainingCapacity() > 0 && pool.offer(newSeed())) {
+            // 풀이 가득 찰 때까지 채움
+        }
+    }
+
+    // 1. 캡차 생성 (Redis 호출 없음)
+    public Challenge generateCaptcha(String sessionId) {
+        Seed seed = pool.poll();
+        if (seed == null) {
+            seed = newSeed(); // 풀 소진 시 즉시 생성
+        }
+
+        long expiresAt = System.currentTimeMillis() + CAPTCHA_TTL.toMillis();
+        String payload = expiresAt + ":" + seed.nonce();
+        byte[] signature = SigningSecrets.hmac(signingKey, signedContent(payload, sessionId, seed.answer()));
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String token = encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + encoder.encodeToString(signature);
+        return new Challenge(seed.answer(), token);
+    }
+
+    // 2. 캡차 검증 (서명이 맞을 때만 Redis 1회)
+    public boolean validateCaptcha(String sessionId, String token, String userInput) {
+        if (token == null || userInput == null) {
+            return false;
+        }
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return false;
+        }
+
+        String nonce;
+        long expiresAt;
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            String payload = new String(decoder.decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+            byte[] signature = decoder.decode(token.substring(dot + 1));
+
+            String[] fields = payload.split(":", 2);
+            if (fields.length != 2) {
+                return false;
+            }
+            expiresAt = Long.parseLong(fields[0]);
+            nonce = fields[1];
+
+            byte[] expected = SigningSecrets.hmac(signingKey, signedContent(payload, sessionId, userInput.trim().toUpperCase()));
+            if (expiresAt <= System.currentTimeMillis() || !MessageDigest.isEqual(expected, signature)) {
+                return false;
+            }
+        } catch (IllegalArgumentException e) {
+            return false; // Base64 / 숫자 형식 오류
+        }
+
+        return consumeNonce(nonce, expiresAt);
+    }
+
+    // 사용된 캡차 기록 (재사용 방지) - 만료 시각 구간별 SET 이라 구간이 지나면 통째로 만료됨
+    private boolean consumeNonce(String nonce, long expiresAt) {
+        long window = expiresAt / CAPTCHA_TTL.toMillis();
+        long keyExpiresAt = (window + 1) * CAPTCHA_TTL.toMillis();
+
+        RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+        Long added = script.eval(RScript.Mode.READ_WRITE, CONSUME_NONCE_SCRIPT, RScript.ReturnType.INTEGER,
+                List.of(USED_NONCE_KEY_PREFIX + window), nonce, String.valueOf(keyExpiresAt));
+        return added == 1L;
+    }
+
+    private byte[] signedContent(String payload, String sessionId, String answer) {
+        String binding = loadTest ? "" : sessionId;
+        return (payload + ":" + binding + ":" + answer).getBytes(StandardCharsets.UTF_8);
+    }
 
-        if (realCaptcha != null && realCaptcha.equals(userInput)) {
-            bucket.delete(); // 사용된 캡차 제거 (재사용 방지)
-            return true;
+    private static Seed newSeed() {
+        char[] answer = new char[ANSWER_LENGTH];
+        for (int i = 0; i < ANSWER_LENGTH; i++) {
+            answer[i] = ANSWER_CHARS.charAt(RANDOM.nextInt(ANSWER_CHARS.length()));
         }
-        return false;
+        byte[] nonce = new byte[12];
+        RANDOM.nextBytes(nonce);
+        return new Seed(new String(answer), HexFormat.of().formatHex(nonce));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,268 @@
+package com.dev.ticketing_system.service;
+
+import com.dev.ticketing_system.dto.SeatResponseDto;
+import com.dev.ticketing_system.entity.Seat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 공연 1개의 좌석 상태를 메모리에 압축 보관하는 구조
+ * - SOLD: 좌석 순번(index) 기준 비트셋 (판매는 되돌릴 수 없으므로 set 만 존재)
+ * - HELD: 좌석별 선점 만료 시각(ms). Redis 키가 TTL로 조용히 만료되어도 이벤트 없이 자연스럽게 해제됨
+ * 좌석 구성(id / 순번)은 로딩 시점에 고정되고, 상태 배열만 이벤트로 갱신되므로 락 없이 읽기 가능
+ * 버전: 좌석 이벤트에 붙어 오는 공연별 전역 버전(seats:version) - 최근 변경 이력을 링 버퍼로 보관해 ?since=버전 증분 조회에 사용
+ * epoch: 새 맵으로 교체될 때마다 새로 부여 - 교체된 맵은 같은 버전이어도 내용이 다를 수 있으므로 (epoch, 버전) 쌍으로만 비교
+ */
+public final class ConcertSeatMap {
+
+    public static final char STATE_AVAILABLE = 'A';
+    public static final char STATE_HELD = 'H';
+    public static final char STATE_SOLD = 'S';
+    private static final int HISTORY_SIZE = 4096;
+
+    private final Long concertId;
+    private final long epoch;
+    private final long[] seatIds;
+    private final int[] seatNumbers;
+    private final Map<Long, Integer> indexBySeatId;
+
+    private final AtomicLongArray soldBits;
+    private final AtomicLongArray heldUntil;
+
+    // 변경 이력 (this 로 보호, version 만 락 없이 읽음)
+    private volatile long version;
+    private long historyFrom;  // 이 버전 이후의 변경은 이력에 빠짐없이 있음
+    private final long[] historyVersions = new long[HISTORY_SIZE];
+    private final int[] historyIndexes = new int[HISTORY_SIZE];
+    private final long[] historyHeldUntil = new long[HISTORY_SIZE];
+    private final char[] historyStates = new char[HISTORY_SIZE];
+    private long historyCount;
+
+    public record SeatChange(long seatId, char state, long heldUntil) {
+    }
+
+    public record Changes(long epoch, long version, List<SeatChange> changes) {
+    }
+
+    /**
+     * 스냅샷용 상태: states 는 좌석 순번 순서로 좌석당 1글자(A/H/S), heldUntil 은 선점 좌석 index -> 만료 시각
+     */
+    public record StateView(long epoch, long version, String states, Map<Integer, Long> heldUntil) {
+    }
+
+    private ConcertSeatMap(Long concertId, List<Seat> seats, long version, long epoch) {
+        int size = seats.size();
+        this.concertId = concertId;
+        this.epoch = epoch;
+        this.seatIds = new long[size];
+        this.seatNumbers = new int[size];
+        this.indexBySeatId = new HashMap<>(size * 2);
+        this.soldBits = new AtomicLongArray((size + 63) / 64);
+        this.heldUntil = new AtomicLongArray(size);
+        this.version = version;
+        this.historyFrom = version;
+
+        for (int i = 0; i < size; i++) {
+            Seat seat = seats.get(i);
+            seatIds[i] = seat.getId();
+            seatNumbers[i] = seat.getSeatNumber();
+            indexBySeatId.put(seat.getId(), i);
+            if (seat.getStatus() == Seat.SeatStatus.SOLD) {
+                setSold(i);
+            }
+        }
+    }
+
+    /**
+     * @param seats 좌석 순번 오름차순으로 정렬된 좌석 목록
+     */
+    public static ConcertSeatMap of(Long concertId, List<Seat> seats) {
+        return new ConcertSeatMap(concertId, seats, 0L, 0L);
+    }
+
+    /**
+     * @param version 로딩 직전에 읽은 좌석 상태 버전 (이 버전 이하의 이벤트는 이미 반영된 것으로 간주)
+     */
+    public static ConcertSeatMap of(Long concertId, List<Seat> seats, long version) {
+        return new ConcertSeatMap(concertId, seats, version, 0L);
+    }
+
+    /**
+     * @param epoch 이 로딩을 구분하는 값 (노드 안에서 로딩마다 증가)
+     */
+    public static ConcertSeatMap of(Long concertId, List<Seat> seats, long version, long epoch) {
+        return new ConcertSeatMap(concertId, seats, version, epoch);
+    }
+
+    public Long getConcertId() {
+        return concertId;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public int size() {
+        return seatIds.length;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long[] getSeatIds() {
+        return seatIds.clone();
+    }
+
+    public int[] getSeatNumbers() {
+        return seatNumbers.clone();
+    }
+
+    /**
+     * 버전이 붙은 좌석 이벤트 반영 + 변경 이력 기록
+     * - 이미 반영된 버전(로딩 시점 이전 이벤트)은 무시
+     * - 버전이 건너뛰면(Pub/Sub 유실) 그 이전 이력으로는 증분 응답을 만들지 않음
+     */
+    public synchronized void apply(long eventVersion, Long seatId, char state, long heldUntilMillis) {
+        if (eventVersion <= version) {
+            return;
+        }
+        if (eventVersion != version + 1) {
+            historyFrom = eventVersion - 1;
+        }
+
+        Integer index = indexBySeatId.get(seatId);
+        if (index != null) {
+            switch (state) {
+                case STATE_HELD -> markHeld(seatId, heldUntilMillis);
+                case STATE_SOLD -> markSold(seatId);
+                default -> markReleased(seatId);
+            }
+
+            int slot = (int) (historyCount++ % HISTORY_SIZE);
+            historyVersions[slot] = eventVersion;
+            historyIndexes[slot] = index;
+            historyStates[slot] = state;
+            historyHeldUntil[slot] = heldUntilMillis;
+        }
+        version = eventVersion;
+    }
+
+    /**
+     * since 이후 변경분 (좌석별로 마지막 상태만)
+     * @return 이력이 부족해 증분으로 답할 수 없으면 null (전체 스냅샷 필요)
+     */
+    public synchronized Changes changesSince(long since) {
+        if (since >= version) {
+            return new Changes(epoch, version, List.of());
+        }
+
+        long retained = Math.min(historyCount, HISTORY_SIZE);
+        long oldest = historyCount - retained;
+        if (since < historyFrom || (retained == HISTORY_SIZE && since < historyVersions[(int) (oldest % HISTORY_SIZE)] - 1)) {
+            return null;
+        }
+
+        Map<Integer, SeatChange> latest = new LinkedHashMap<>();
+        for (long i = oldest; i < historyCount; i++) {
+            int slot = (int) (i % HISTORY_SIZE);
+            if (historyVersions[slot] > since) {
+                int index = historyIndexes[slot];
+                latest.remove(index);
+                latest.put(index, new SeatChange(seatIds[index], historyStates[slot], historyHeldUntil[slot]));
+            }
+        }
+        return new Changes(epoch, version, List.copyOf(latest.values()));
+    }
+
+    /**
+     * 현재 상태를 버전과 함께 일관되게 읽음 (스냅샷 생성용)
+     */
+    public synchronized StateView stateView(long nowMillis) {
+        char[] states = new char[seatIds.length];
+        Map<Integer, Long> held = new HashMap<>();
+        for (int i = 0; i < seatIds.length; i++) {
+            if (isSold(i)) {
+                states[i] = STATE_SOLD;
+            } else if (isHeld(i, nowMillis)) {
+                states[i] = STATE_HELD;
+                held.put(i, heldUntil.get(i));
+            } else {
+                states[i] = STATE_AVAILABLE;
+            }
+        }
+        return new StateView(epoch, version, new String(states), held);
+    }
+
+    /**
+     * 좌석 구성 / 버전 / 상태가 모두 같은지 (재동기화 결과가 현재 맵과 어긋났는지 판단용)
+     */
+    public boolean sameStateAs(ConcertSeatMap other, long nowMillis) {
+        if (getVersion() != other.getVersion() || !Arrays.equals(seatIds, other.seatIds)) {
+            return false;
+        }
+        StateView mine = stateView(nowMillis);
+        StateView theirs = other.stateView(nowMillis);
+        return mine.states().equals(theirs.states()) && mine.heldUntil().equals(theirs.heldUntil());
+    }
+
+    public void markHeld(Long seatId, long expiresAtMillis) {
+        Integer index = indexBySeatId.get(seatId);
+        if (index != null) {
+            heldUntil.set(index, expiresAtMillis);
+        }
+    }
+
+    public void markReleased(Long seatId) {
+        Integer index = indexBySeatId.get(seatId);
+        if (index != null) {
+            heldUntil.set(index, 0L);
+        }
+    }
+
+    public void markSold(Long seatId) {
+        Integer index = indexBySeatId.get(seatId);
+        if (index != null) {
+            setSold(index);
+            heldUntil.set(index, 0L);
+        }
+    }
+
+    public boolean isSold(int index) {
+        return (soldBits.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    public boolean isHeld(int index, long nowMillis) {
+        return heldUntil.get(index) > nowMillis;
+    }
+
+    /**
+     * 좌석 순번 순서의 화면용 DTO 목록 (I/O 없음)
+     */
+    public List<SeatResponseDto> toSeatResponses() {
+        long now = System.currentTimeMillis();
+        List<SeatResponseDto> result = new ArrayList<>(seatIds.length);
+
+        for (int i = 0; i < seatIds.length; i++) {
+            boolean sold = isSold(i);
+            result.add(SeatResponseDto.builder()
+                    .id(seatIds[i])
+                    .seatNumber(seatNumbers[i])
+                    .status(sold ? Seat.SeatStatus.SOLD.name() : Seat.SeatStatus.AVAILABLE.name())
+                    .isLocked(!sold && isHeld(i, now))
+                    .build());
+        }
+        return result;
+    }
+
+    private void setSold(int index) {
+        long mask = 1L << index;
+        soldBits.getAndAccumulate(index >>> 6, mask, (prev, bit) -> prev | bit);
+    }
+}
@@ -21,8 +21,11 @@ public class ConcertService {
 
     private final ConcertRepository concertRepository;
     private final SeatRepository seatRepository;
+    private final SeatMapCache seatMapCache;
 
-    @Cacheable(value = "concerts", key = "'all'")
+    // sync = true: 캐시 만료 시 재조회를 StampedeProtectedCache 의 single-flight 로 처리
+    // 노드 로컬(L1) 적중 시 Redis 조회 없이 응답, 변경(@CacheEvict) 시 다른 노드 L1 도 무효화됨
+    @Cacheable(value = "concerts", key = "'all'", sync = true)
     public List<Concert> findAll() {
         return concertRepository.findAll();
     }
@@ -45,8 +48,17 @@ public class ConcertService {
     }
 
     @Transactional
+    @CacheEvict(value = "concerts", key = "'all'")
+    public void update(Long concertId, String title, String venue, int totalSeats) {
+        Concert concert = concertRepository.findById(concertId).orElseThrow();
+        concert.update(title, venue, totalSeats);
+    }
+
+    @Transactional
+    @CacheEvict(value = "concerts", key = "'all'")
     public void deleteConcert(Long concertId) {
         seatRepository.deleteByConcertId(concertId);
         concertRepository.deleteById(concertId);
+        seatMapCache.evict(concertId);
     }
 }
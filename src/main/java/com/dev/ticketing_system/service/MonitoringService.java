@@ -1,15 +1,24 @@
 package com.dev.ticketing_system.service;
 
+import com.dev.ticketing_system.entity.Concert;
 import com.dev.ticketing_system.entity.Seat;
+import com.dev.ticketing_system.repository.ConcertRepository;
 import com.dev.ticketing_system.repository.SeatRepository;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
@@ -19,13 +28,15 @@ public class MonitoringService {
     private final MeterRegistry meterRegistry;
     private final RedissonClient redissonClient;
     private final SeatRepository seatRepository;
+    private final ConcertRepository concertRepository;
+    private final QueueService queueService;
 
     private AtomicInteger waitingQueueSize = new AtomicInteger(0);
     private AtomicInteger soldSeatCount = new AtomicInteger(0);
     private AtomicInteger activeUserCount = new AtomicInteger(0);
 
-    private static final String QUEUE_KEY = "concert:queue:1";
-    private static final String ACTIVE_KEY_PATTERN = "concert:active:1:*";
+    private MultiGauge queueSizeByConcert;
+    private MultiGauge activeUsersByConcert;
 
     @PostConstruct
     public void init() {
@@ -40,15 +51,63 @@ public class MonitoringService {
         Gauge.builder("custom.ticket.active.users", activeUserCount, AtomicInteger::get)
                 .description("Current active users processing payment")
                 .register(meterRegistry);
+
+        queueSizeByConcert = MultiGauge.builder("custom.ticket.concert.queue.size")
+                .description("Waiting queue size per concert")
+                .register(meterRegistry);
+
+        activeUsersByConcert = MultiGauge.builder("custom.ticket.concert.active.users")
+                .description("Admitted users per concert")
+                .register(meterRegistry);
     }
 
+    /**
+     * 전체 공연의 대기 인원 / 입장 인원을 ZCARD 로 집계 (공연 x 샤드 수만큼의 명령을 파이프라인 1회로 전송)
+     * 키 패턴 스캔을 하지 않으므로 keyspace 크기와 무관
+     */
     @Scheduled(fixedRate = 5000)
     public void updateMetrics() {
-        int queueSize = redissonClient.getScoredSortedSet(QUEUE_KEY).size();
-        waitingQueueSize.set(queueSize);
+        List<Concert> concerts = concertRepository.findAll();
+
+        int shards = queueService.getShardCount();
+
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Integer>> queueSizes = new ArrayList<>(concerts.size() * shards);
+        List<RFuture<Integer>> activeCounts = new ArrayList<>(concerts.size() * shards);
+        for (Concert concert : concerts) {
+            for (int shard = 0; shard < shards; shard++) {
+                queueSizes.add(batch.getScoredSortedSet(QueueService.queueKey(concert.getId(), shard), StringCodec.INSTANCE).sizeAsync());
+                activeCounts.add(batch.getScoredSortedSet(QueueService.activeKey(concert.getId(), shard), StringCodec.INSTANCE).sizeAsync());
+            }
+        }
+        if (!concerts.isEmpty()) {
+            batch.execute();
+        }
+
+        List<MultiGauge.Row<?>> queueRows = new ArrayList<>(concerts.size());
+        List<MultiGauge.Row<?>> activeRows = new ArrayList<>(concerts.size());
+        int totalQueueSize = 0;
+        int totalActiveCount = 0;
+
+        for (int i = 0; i < concerts.size(); i++) {
+            Tags tags = Tags.of("concertId", String.valueOf(concerts.get(i).getId()));
+            int queueSize = 0;
+            int activeCount = 0;
+            for (int shard = 0; shard < shards; shard++) {
+                queueSize += queueSizes.get(i * shards + shard).toCompletableFuture().join();
+                activeCount += activeCounts.get(i * shards + shard).toCompletableFuture().join();
+            }
+
+            queueRows.add(MultiGauge.Row.of(tags, queueSize));
+            activeRows.add(MultiGauge.Row.of(tags, activeCount));
+            totalQueueSize += queueSize;
+            totalActiveCount += activeCount;
+        }
 
-        int activeCount = (int) redissonClient.getKeys().countExists(ACTIVE_KEY_PATTERN);
-        activeUserCount.set(activeCount);
+        queueSizeByConcert.register(queueRows, true);
+        activeUsersByConcert.register(activeRows, true);
+        waitingQueueSize.set(totalQueueSize);
+        activeUserCount.set(totalActiveCount);
 
         int soldCount = seatRepository.countByStatus(Seat.SeatStatus.SOLD);
         soldSeatCount.set(soldCount);
@@ -4,34 +4,30 @@ import com.dev.ticketing_system.entity.Seat;
 import com.dev.ticketing_system.repository.SeatRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RBucket;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentConfirmService {
 
     private final SeatRepository seatRepository;
-    private final RedissonClient redissonClient;
-
-    private static final String LOCK_KEY = "seat:lock:";
+    private final SeatHoldEngine seatHoldEngine;
 
     @Transactional
     public void confirmPayment(Long seatId, String userId) {
-        String lockKey = LOCK_KEY + seatId;
-        String userKey = lockKey + ":user";
-
-        RLock lock = redissonClient.getLock(lockKey);
-        RBucket<String> userBucket = redissonClient.getBucket(userKey);
+        Long concertId = null;
 
         try {
             Seat seat = seatRepository.findById(seatId)
                     .orElseThrow(() -> new IllegalStateException("Seat not found"));
+            concertId = seat.getConcert().getId();
 
             if (seat.getStatus() == Seat.SeatStatus.SOLD) {
                 log.info(">>> [Consumer] 이미 SOLD 처리된 좌석 - skip (seatId={})", seatId);
@@ -45,15 +41,46 @@ public class PaymentConfirmService {
             log.warn(">>> [Consumer] Optimistic Lock 충돌 - 이미 처리된 이벤트 (seatId={})", seatId);
 
         } finally {
-            try {
-                userBucket.delete();
-                if (lock.isLocked()) {
-                    lock.forceUnlock();
-                    log.info(">>> [Consumer] Redis 락 해제 완료 (seatId={})", seatId);
+            if (concertId != null) {
+                try {
+                    seatHoldEngine.markSold(concertId, seatId);
+                    log.info(">>> [Consumer] Redis 좌석 점유 해제 완료 (seatId={}, userId={})", seatId, userId);
+                } catch (Exception e) {
+                    log.warn(">>> [Consumer] Redis 좌석 점유 해제 실패: {}", e.getMessage());
                 }
-            } catch (Exception e) {
-                log.warn(">>> [Consumer] Redis 락 해제 실패: {}", e.getMessage());
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 결제 완료 이벤트 배치 반영
+     * - 좌석 SOLD 처리: UPDATE ... WHERE id IN (...) AND status = 'AVAILABLE' 한 번
+     * - Redis 정리: 좌석별 스크립트를 파이프라인으로 한 번에 전송
+     * @return 이번에 새로 SOLD 처리된 좌석 수
+     */
+    @Transactional
+    public int confirmPayments(List<Long> seatIds) {
+        List<Long> targetSeatIds = seatIds.stream().distinct().toList();
+        if (targetSeatIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Seat> seats = seatRepository.findAllById(targetSeatIds);
+        if (seats.size() != targetSeatIds.size()) {
+            log.warn(">>> [Consumer] 존재하지 않는 좌석 포함: 요청={}, 조회={}", targetSeatIds.size(), seats.size());
+        }
+
+        Map<Long, Long> concertIdBySeatId = seats.stream()
+                .collect(Collectors.toMap(Seat::getId, seat -> seat.getConcert().getId()));
+
+        int updated = seatRepository.markSoldByIds(targetSeatIds);
+        log.info(">>> [Consumer] 좌석 일괄 SOLD 처리 완료 (DB): 요청={}, 반영={}", targetSeatIds.size(), updated);
+
+        try {
+            seatHoldEngine.markSold(concertIdBySeatId);
+        } catch (Exception e) {
+            log.warn(">>> [Consumer] Redis 좌석 점유 일괄 해제 실패: {}", e.getMessage());
+        }
+        return updated;
+    }
+}
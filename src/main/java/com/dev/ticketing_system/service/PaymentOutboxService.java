@@ -0,0 +1,86 @@
+package com.dev.ticketing_system.service;
+
+import com.dev.ticketing_system.config.PaymentEventSerializer;
+import com.dev.ticketing_system.dto.PaymentEvent;
+import com.dev.ticketing_system.entity.PaymentOutbox;
+import com.dev.ticketing_system.repository.PaymentOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 결제 이벤트 아웃박스 (Redis/Kafka 이중 쓰기 제거)
+ * - append: 결제 요청 트랜잭션에 참여해 아웃박스 행 INSERT 1건만 수행
+ * - relayBatch: 미발행 행을 묶어서 Kafka 로 보내고, ack 를 받은 행만 발행 완료 처리
+ *   (ack 후 커밋 전에 죽으면 같은 이벤트가 다시 발행될 수 있으나 컨슈머의 SOLD 처리는 멱등)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentOutboxService {
+
+    private static final long SEND_TIMEOUT_MS = 10000;
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    // payload 가 이미 인코딩된 byte[] 이므로 PaymentEventSerializer 가 그대로 통과시킴
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Transactional
+    public void append(String topic, String messageKey, PaymentEvent event) {
+        paymentOutboxRepository.save(new PaymentOutbox(topic, messageKey, PaymentEventSerializer.encode(event)));
+    }
+
+    /**
+     * @return 이번에 발행 완료 처리된 이벤트 수
+     */
+    @Transactional
+    public int relayBatch(int batchSize) {
+        List<PaymentOutbox> pending = paymentOutboxRepository.findUnsentForUpdate(batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 한 묶음을 모두 전송한 뒤 ack 를 기다림 (프로듀서가 파티션별로 배치 전송)
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(pending.size());
+        for (PaymentOutbox outbox : pending) {
+            futures.add(kafkaTemplate.send(outbox.getTopic(), outbox.getMessageKey(), outbox.getPayload()));
+        }
+
+        long deadline = System.currentTimeMillis() + SEND_TIMEOUT_MS;
+        List<Long> sentIds = new ArrayList<>(pending.size());
+
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                sentIds.add(pending.get(i).getId());
+            } catch (ExecutionException | TimeoutException e) {
+                // 실패한 행은 sent_at 이 비어있으므로 다음 주기에 다시 발행
+                log.warn("[Outbox] 결제 이벤트 발행 실패: id={}, reason={}", pending.get(i).getId(), e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            paymentOutboxRepository.markSent(sentIds, LocalDateTime.now());
+        }
+        return sentIds.size();
+    }
+
+    @Transactional
+    public int purgeSent(LocalDateTime before) {
+        return paymentOutboxRepository.deleteSentBefore(before);
+    }
+}
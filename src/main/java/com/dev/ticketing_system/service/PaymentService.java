@@ -1,17 +1,18 @@
 package com.dev.ticketing_system.service;
 
-import com.dev.ticketing_system.entity.Seat;
+import com.dev.ticketing_system.config.KafkaTopicConfig;
+import com.dev.ticketing_system.dto.PaymentEvent;
 import com.dev.ticketing_system.exception.SeatAlreadyTakenException;
-import com.dev.ticketing_system.repository.SeatRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RBucket;
-import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -19,15 +20,23 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class PaymentService {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final PaymentOutboxService paymentOutboxService;
     private final RedissonClient redissonClient;
-    private final SeatRepository seatRepository;
-
-    private static final String TOPIC = "payment-completed";
-    private static final String LOCK_KEY = "seat:lock:";
-
-    @Transactional(readOnly = true)
-    public void validateAndPay(Long seatId, String userId, String idempotencyKey) {
+    private final SeatHoldEngine seatHoldEngine;
+    private final QueueService queueService;
+
+    private static final String TOPIC = KafkaTopicConfig.PAYMENT_COMPLETED_TOPIC;
+    public static final long TICKET_PRICE = 100000;
+
+    /**
+     * 좌석 여러 개(일행 예매)도 Kafka 이벤트(PaymentEvent) 1건으로 발행 - 바이너리 포맷은 PaymentEventSerializer 참고
+     * 메시지 키는 공연 ID → 한 이벤트의 좌석은 모두 같은 공연이므로, 좌석이 겹치는 이벤트는 항상 같은 파티션에서 순서대로 처리
+     * Kafka 로 직접 보내지 않고 아웃박스에 기록 → 요청 스레드는 로컬 INSERT 1건만 부담, 발행은 PaymentOutboxRelay 가 담당
+     * 멱등키 COMPLETED/삭제는 트랜잭션 결과(커밋/롤백)가 확정된 뒤에 반영 → 커밋 실패 시 재시도가 막히지 않음
+     * 커밋 후 입장 유저(active)에서 제거 → 대기열 이탈 속도(QueueRateEstimator)가 active TTL 만료가 아닌 결제 완료를 따라감
+     */
+    @Transactional
+    public void validateAndPay(Long concertId, List<Long> seatIds, String userId, String idempotencyKey) {
         String idemKey = "idempotency:" + idempotencyKey;
         RBucket<String> idempotencyBucket = redissonClient.getBucket(idemKey);
 
@@ -35,40 +44,93 @@ public class PaymentService {
             throw new IllegalArgumentException("이미 완료된 요청입니다.");
         }
         idempotencyBucket.set("PROCESSING", 10, TimeUnit.MINUTES);
+        boolean bound = bindIdempotencyToTransaction(idempotencyBucket);
 
         try {
-            String lockKey = LOCK_KEY + seatId;
-            String userKey = lockKey + ":user";
-
-            RLock lock = redissonClient.getLock(lockKey);
-            RBucket<String> userBucket = redissonClient.getBucket(userKey);
+            SeatHoldEngine.OwnerCheck ownerCheck = seatHoldEngine.checkOwner(concertId, seatIds, userId);
 
-            if (!lock.isLocked()) {
+            if (ownerCheck == SeatHoldEngine.OwnerCheck.EXPIRED) {
                 throw new SeatAlreadyTakenException("결제 시간이 초과되어 좌석 선점이 해제되었습니다.");
             }
 
-            String ownerId = userBucket.get();
-
-            if (ownerId == null || !ownerId.equals(userId)) {
-                log.warn("락 소유자 불일치: 요청={}, 실제={}", userId, ownerId);
+            if (ownerCheck == SeatHoldEngine.OwnerCheck.OTHER_OWNER) {
+                log.warn("락 소유자 불일치: 요청={}, seatIds={}", userId, seatIds);
                 throw new SeatAlreadyTakenException("좌석 점유 권한이 없습니다. (다른 유저가 선점 중)");
             }
 
-            Seat seat = seatRepository.findById(seatId)
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 좌석입니다."));
-
-            if (seat.getStatus() == Seat.SeatStatus.SOLD) {
-                throw new SeatAlreadyTakenException("이미 결제 완료된 좌석입니다.");
+            PaymentEvent event = PaymentEvent.builder()
+                    .concertId(concertId)
+                    .seatIds(seatIds)
+                    .userId(userId)
+                    .amount(TICKET_PRICE * seatIds.size())
+                    .idempotencyKey(idempotencyKey)
+                    .createdAt(System.currentTimeMillis())
+                    .build();
+
+            String messageKey = String.valueOf(concertId);
+            paymentOutboxService.append(TOPIC, messageKey, event);
+            if (!bound) {
+                idempotencyBucket.set("COMPLETED", 10, TimeUnit.MINUTES);
             }
+            releaseQueueSlotAfterCommit(concertId, userId);
 
-            kafkaTemplate.send(TOPIC, seatId + ":" + userId);
-            idempotencyBucket.set("COMPLETED", 10, TimeUnit.MINUTES);
-
-            log.info("✅ Kafka 결제 이벤트 발행 완료 (seatId={}, userId={})", seatId, userId);
+            log.info("✅ 결제 이벤트 아웃박스 기록 완료 (concertId={}, seatIds={}, userId={})", concertId, seatIds, userId);
 
         } catch (Exception e) {
-            idempotencyBucket.delete();
+            if (!bound) {
+                idempotencyBucket.delete();
+            }
             throw e;
         }
     }
+
+    /**
+     * 결제가 확정된 유저의 입장 자리 반납 (트랜잭션이 없으면 즉시)
+     * 이미 발급된 입장권은 만료까지 유효 - 결제 완료 화면 등 후속 요청이 막히지 않도록 revoke 하지 않음
+     */
+    private void releaseQueueSlotAfterCommit(Long concertId, String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseQueueSlot(concertId, userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseQueueSlot(concertId, userId);
+            }
+        });
+    }
+
+    private void releaseQueueSlot(Long concertId, String userId) {
+        try {
+            queueService.removeActive(concertId, userId);
+        } catch (Exception e) {
+            // 결제는 이미 확정됨 - 실패해도 active TTL 만료로 정리
+            log.warn("입장 유저 제거 실패: concertId={}, userId={}, reason={}", concertId, userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋 후 COMPLETED, 롤백(커밋 시점 실패 포함) 후 멱등키 삭제
+     * 트랜잭션 동기화가 없으면 false → 호출부에서 즉시 반영
+     */
+    private boolean bindIdempotencyToTransaction(RBucket<String> idempotencyBucket) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                idempotencyBucket.set("COMPLETED", 10, TimeUnit.MINUTES);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    idempotencyBucket.delete();
+                }
+            }
+        });
+        return true;
+    }
 }
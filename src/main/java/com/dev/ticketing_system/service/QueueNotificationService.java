@@ -0,0 +1,165 @@
+package com.dev.ticketing_system.service;
+
+import com.dev.ticketing_system.dto.QueueStatusDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 대기열 입장 알림 fan-out
+ * - 리더 노드는 공연별로 이번 주기 입장 유저 목록을 Redis 채널(queue:admitted)에 1회 발행
+ * - 모든 노드가 구독하고, 자기 노드에 접속 중인 유저에게만 전용 스레드에서 WebSocket 전송
+ *   (SimpleBroker 는 노드 로컬이므로 다른 노드에 접속한 유저도 알림을 받게 됨)
+ * 메시지 형식: "{concertId}\n{userId}\n{userId}..." (userId 에 ',' ':' 가 있어도 안전하도록 줄바꿈 구분)
+ *
+ * 대기 순번 push
+ * - 노드마다 자기 대기 유저의 순번을 공연별 1회 순차 조회(QueueService.findRanks)로 계산해 같은 채널로 전송
+ * - 순번이 바뀐 유저에게만, 유저당 최소 간격(min-interval-ms)을 두고 최신 값만 전송 (중간 값은 합쳐짐)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueNotificationService {
+
+    public static final String ADMITTED_CHANNEL = "queue:admitted";
+    private static final int DELIVERY_THREADS = 2;
+
+    private final RedissonClient redissonClient;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final QueueSessionRegistry sessionRegistry;
+    private final QueueService queueService;
+
+    @Value("${ticketing.queue.position.min-interval-ms:3000}")
+    private long positionMinIntervalMs;
+
+    // userId -> 마지막으로 보낸 순번 / 시각
+    private final Map<String, PushedPosition> pushedPositions = new ConcurrentHashMap<>();
+    private final AtomicBoolean positionPushRunning = new AtomicBoolean();
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 전송 동시성은 DELIVERY_THREADS 로 고정, 가상 스레드 모드에서는 전송 대기 중 캐리어 스레드를 점유하지 않음
+    private ExecutorService deliveryExecutor;
+    private int listenerId = -1;
+
+    @PostConstruct
+    public void subscribe() {
+        deliveryExecutor = Executors.newFixedThreadPool(DELIVERY_THREADS, virtualThreads
+                ? Thread.ofVirtual().name("queue-notify-", 1).factory()
+                : Thread.ofPlatform().name("queue-notify-", 1).daemon(true).factory());
+
+        RTopic topic = redissonClient.getTopic(ADMITTED_CHANNEL, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> {
+            try {
+                deliveryExecutor.execute(() -> deliver(message));
+            } catch (RejectedExecutionException e) {
+                log.warn("[QueueNotify] 종료 중 입장 알림 전달 생략");
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (listenerId != -1) {
+            redissonClient.getTopic(ADMITTED_CHANNEL, StringCodec.INSTANCE).removeListener(listenerId);
+        }
+        deliveryExecutor.shutdown();
+    }
+
+    /**
+     * 입장 유저 목록 발행 (공연당 주기마다 1회)
+     */
+    public void publishAdmitted(Long concertId, Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        String message = concertId + "\n" + String.join("\n", userIds);
+        redissonClient.getTopic(ADMITTED_CHANNEL, StringCodec.INSTANCE).publish(message);
+    }
+
+    /**
+     * 순번 계산/전송은 전용 스레드에서 수행 (이전 push 가 끝나지 않았으면 이번 주기는 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${ticketing.queue.position.push-interval-ms:1000}")
+    public void schedulePositionPush() {
+        if (sessionRegistry.size() == 0 || !positionPushRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            deliveryExecutor.execute(() -> {
+                try {
+                    pushPositions();
+                } catch (Exception e) {
+                    log.warn("[QueueNotify] 대기 순번 push 실패: {}", e.getMessage());
+                } finally {
+                    positionPushRunning.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            positionPushRunning.set(false);
+        }
+    }
+
+    void pushPositions() {
+        Map<Long, Set<String>> waitersByConcert = sessionRegistry.waitersByConcert();
+        long now = System.currentTimeMillis();
+        Set<String> connected = new HashSet<>();
+
+        for (Map.Entry<Long, Set<String>> entry : waitersByConcert.entrySet()) {
+            Long concertId = entry.getKey();
+            connected.addAll(entry.getValue());
+
+            Map<String, Long> ranks = queueService.findRanks(concertId, entry.getValue());
+            ranks.forEach((userId, rank) -> {
+                PushedPosition last = pushedPositions.get(userId);
+                if (last != null && (last.rank() == rank || now - last.pushedAt() < positionMinIntervalMs)) {
+                    return;
+                }
+                messagingTemplate.convertAndSend(QueueSessionRegistry.QUEUE_DESTINATION_PREFIX + userId,
+                        new QueueStatusDto(rank, queueService.estimateWaitSeconds(concertId, rank), false));
+                pushedPositions.put(userId, new PushedPosition(rank, now));
+            });
+        }
+
+        pushedPositions.keySet().retainAll(connected);
+    }
+
+    void deliver(String message) {
+        String[] lines = message.split("\n");
+        int delivered = 0;
+
+        for (int i = 1; i < lines.length; i++) {
+            String userId = lines[i];
+            if (sessionRegistry.isConnected(userId)) {
+                messagingTemplate.convertAndSend(QueueSessionRegistry.QUEUE_DESTINATION_PREFIX + userId, Map.of("pass", true));
+                delivered++;
+            }
+        }
+
+        if (delivered > 0) {
+            log.info("[QueueNotify] 입장 알림 전송: concertId={}, 입장={}명, 이 노드 전송={}명", lines[0], lines.length - 1, delivered);
+        }
+    }
+
+    private record PushedPosition(long rank, long pushedAt) {
+    }
+}
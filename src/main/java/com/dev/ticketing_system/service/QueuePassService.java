@@ -0,0 +1,199 @@
+package com.dev.ticketing_system.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열 입장권(pass) 발급 / 검증
+ * - 입장 처리된 유저에게 (공연 ID, userId, 발급 시각, 만료 시각, nonce) 를 HMAC-SHA256 으로 서명한 토큰 발급
+ * - 서명 키는 마스터 secret 에서 rotation 주기마다 파생 (현재 + 직전 키까지 허용) → 노드 간 키 공유 / 조율 불필요
+ * - 검증은 Redis 없이 노드 로컬에서 처리, 강제 퇴장만 Redis 폐기 목록(queue:pass:revoked)을 Pub/Sub 으로 받아 로컬에 보관
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueuePassService {
+
+    public static final String COOKIE_NAME = "QUEUE_PASS";
+    public static final String REVOKED_KEY = "queue:pass:revoked";     // member = {concertId}:{userId}, score = 폐기 시각 ms
+    public static final String REVOKED_CHANNEL = "queue:pass:revoked";
+    private static final Duration MAX_PASS_TTL = Duration.ofMinutes(30);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RedissonClient redissonClient;
+
+    @Value("${ticketing.queue.pass.secret}")
+    private String secret;
+
+    @Value("${ticketing.queue.pass.rotation-minutes:60}")
+    private long rotationMinutes = 60;
+
+    private final Map<Long, SecretKeySpec> signingKeys = new ConcurrentHashMap<>();
+    private volatile Map<String, Long> revokedAt = Map.of();
+    private int listenerId = -1;
+
+    public record Pass(Long concertId, String userId, long issuedAt, long expiresAt) {
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        SigningSecrets.requireStrong("ticketing.queue.pass.secret", secret);
+        RTopic topic = redissonClient.getTopic(REVOKED_CHANNEL, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> applyRevocation(message));
+        refreshRevocations();
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (listenerId != -1) {
+            redissonClient.getTopic(REVOKED_CHANNEL, StringCodec.INSTANCE).removeListener(listenerId);
+        }
+    }
+
+    /**
+     * @param expiresAt 입장 만료 시각(ms) - active ZSET 의 score 와 동일하게 맞춤
+     */
+    public String issue(Long concertId, String userId, long expiresAt) {
+        long now = System.currentTimeMillis();
+        long keyId = keyIdAt(now);
+        long nonce = RANDOM.nextLong();
+        String payload = keyId + ":" + concertId + ":" + now + ":" + Math.min(expiresAt, now + MAX_PASS_TTL.toMillis())
+                + ":" + Long.toHexString(nonce) + ":" + userId;
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return encoder.encodeToString(payloadBytes) + "." + encoder.encodeToString(sign(keyId, payloadBytes));
+    }
+
+    /**
+     * 서명 / 만료 / 공연 / 유저 / 폐기 여부 확인 (Redis 호출 없음)
+     * @param concertId 요청 대상 공연 ID (필수 - 토큰의 공연과 다르거나 null 이면 무효)
+     * @return 유효하면 Pass, 아니면 null
+     */
+    public Pass verify(String token, Long concertId, String userId) {
+        if (token == null || concertId == null || userId == null) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payloadBytes = decoder.decode(token.substring(0, dot));
+            byte[] signature = decoder.decode(token.substring(dot + 1));
+
+            String[] fields = new String(payloadBytes, StandardCharsets.UTF_8).split(":", 6);
+            if (fields.length != 6) {
+                return null;
+            }
+
+            long keyId = Long.parseLong(fields[0]);
+            long currentKeyId = keyIdAt(System.currentTimeMillis());
+            if ((keyId != currentKeyId && keyId != currentKeyId - 1)
+                    || !MessageDigest.isEqual(sign(keyId, payloadBytes), signature)) {
+                return null;
+            }
+
+            Pass pass = new Pass(Long.parseLong(fields[1]), fields[5], Long.parseLong(fields[2]), Long.parseLong(fields[3]));
+            if (pass.expiresAt() <= System.currentTimeMillis()
+                    || !concertId.equals(pass.concertId())
+                    || !userId.equals(pass.userId())
+                    || isRevoked(pass)) {
+                return null;
+            }
+            return pass;
+        } catch (IllegalArgumentException e) {
+            return null; // Base64 / 숫자 형식 오류 (NumberFormatException 포함)
+        }
+    }
+
+    /**
+     * 강제 퇴장: 지금까지 발급된 해당 유저의 입장권을 모두 무효화 (이후 재입장 시 새로 발급된 입장권은 유효)
+     */
+    public void revoke(Long concertId, String userId) {
+        String member = revocationMember(concertId, userId);
+        long now = System.currentTimeMillis();
+        redissonClient.getScoredSortedSet(REVOKED_KEY, StringCodec.INSTANCE).add(now, member);
+        redissonClient.getTopic(REVOKED_CHANNEL, StringCodec.INSTANCE).publish(now + "\n" + member);
+        log.info("[QueuePass] 입장권 폐기: concertId={}, userId={}", concertId, userId);
+    }
+
+    /**
+     * 폐기 목록 전체 동기화 (Pub/Sub 메시지 유실 대비) + 모든 입장권이 만료된 오래된 항목 정리
+     * Redis 조회에 실패해도 기존 로컬 목록으로 계속 검증
+     */
+    @Scheduled(fixedDelay = 30000)
+    public void refreshRevocations() {
+        try {
+            RScoredSortedSet<String> revoked = redissonClient.getScoredSortedSet(REVOKED_KEY, StringCodec.INSTANCE);
+            revoked.removeRangeByScore(Double.NEGATIVE_INFINITY, true, System.currentTimeMillis() - MAX_PASS_TTL.toMillis(), true);
+
+            Map<String, Long> latest = new HashMap<>();
+            for (ScoredEntry<String> entry : revoked.entryRange(Double.NEGATIVE_INFINITY, true, Double.POSITIVE_INFINITY, true)) {
+                latest.put(entry.getValue(), entry.getScore().longValue());
+            }
+            revokedAt = Map.copyOf(latest);
+        } catch (Exception e) {
+            log.warn("[QueuePass] 폐기 목록 동기화 실패, 기존 목록 유지: {}", e.getMessage());
+        }
+    }
+
+    void applyRevocation(String message) {
+        int newline = message.indexOf('\n');
+        if (newline < 0) {
+            log.warn("[QueuePass] 잘못된 폐기 메시지: {}", message);
+            return;
+        }
+        Map<String, Long> updated = new HashMap<>(revokedAt);
+        updated.merge(message.substring(newline + 1), Long.parseLong(message.substring(0, newline)), Math::max);
+        revokedAt = Map.copyOf(updated);
+    }
+
+    private boolean isRevoked(Pass pass) {
+        Long revokedTime = revokedAt.get(revocationMember(pass.concertId(), pass.userId()));
+        return revokedTime != null && pass.issuedAt() <= revokedTime;
+    }
+
+    private long keyIdAt(long millis) {
+        return millis / Duration.ofMinutes(rotationMinutes).toMillis();
+    }
+
+    private byte[] sign(long keyId, byte[] payload) {
+        SecretKeySpec key = signingKeys.computeIfAbsent(keyId, this::deriveKey);
+        if (signingKeys.size() > 4) {
+            signingKeys.keySet().removeIf(id -> id < keyId - 1);
+        }
+        return SigningSecrets.hmac(key, payload);
+    }
+
+    // 주기별 서명 키 = HMAC(secret, "queue-pass:" + keyId)
+    private SecretKeySpec deriveKey(long keyId) {
+        return SigningSecrets.derive(secret, "queue-pass:" + keyId);
+    }
+
+    private static String revocationMember(Long concertId, String userId) {
+        return concertId + ":" + userId;
+    }
+}
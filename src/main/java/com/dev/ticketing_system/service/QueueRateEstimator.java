@@ -0,0 +1,172 @@
+package com.dev.ticketing_system.service;
+
+import com.dev.ticketing_system.config.QueueAdmissionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공연별 입장 속도 추정 / 조절
+ * - 이탈 속도: 주기마다 (직전 active + 이번 입장 - 현재 active) = 결제 완료(PaymentService 가 커밋 후 제거) / 강제 퇴장 / 만료로 active 에서 빠져나간 인원 → 초당 값의 EWMA
+ * - 측정 속도(예상 대기 시간용): active 가 목표 사용률 이상이면 대기열은 빠져나가는 속도만큼만 줄어들므로 이탈 속도,
+ *   여유가 있으면 목표 입장 속도 그대로 입장되므로 목표 속도
+ *   리더가 queue:admission:rate 해시에 기록하고, 모든 노드가 주기적으로 읽어감
+ * - 목표 속도: 좌석 선택/결제 단계 인원(active) 이 max-active x target-utilization 을 넘으면 줄이고 밑돌면 늘림 (AIMD)
+ *   상한은 설정된 공연별 입장 속도, 하한은 min-rate
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueRateEstimator {
+
+    public static final String RATE_KEY = "queue:admission:rate";
+
+    private static final double ALPHA = 0.2;              // EWMA 가중치 (최근 값 비중)
+    private static final double OVERLOAD_FACTOR = 0.7;    // active 가 max-active 초과 시 감소 비율
+    private static final double BUSY_FACTOR = 0.9;        // 목표 사용률 초과 시 감소 비율
+    private static final double INCREASE_RATIO = 0.1;     // 여유 있을 때 주기당 상한의 10% 씩 증가
+
+    private final RedissonClient redissonClient;
+    private final QueueAdmissionProperties admissionProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, Double> measuredRates = new ConcurrentHashMap<>();
+    private final Map<Long, Double> targetRates = new ConcurrentHashMap<>();
+    private final Map<Long, Double> drainRates = new ConcurrentHashMap<>();
+    private final Map<Long, Long> lastActiveCounts = new ConcurrentHashMap<>();
+
+    private MultiGauge measuredRateGauge;
+    private MultiGauge targetRateGauge;
+
+    @PostConstruct
+    public void init() {
+        measuredRateGauge = MultiGauge.builder("custom.ticket.concert.admission.rate")
+                .description("Measured queue throughput per concert used for wait estimates (users/sec)")
+                .register(meterRegistry);
+
+        targetRateGauge = MultiGauge.builder("custom.ticket.concert.admission.target.rate")
+                .description("Adaptive admission target rate per concert (users/sec)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 리더 스케줄러가 이번 주기에 사용할 입장 속도
+     */
+    public double targetRate(Long concertId) {
+        double ceiling = admissionProperties.rateOf(concertId);
+        if (!admissionProperties.isAdaptive()) {
+            return ceiling;
+        }
+        return targetRates.getOrDefault(concertId, ceiling);
+    }
+
+    /**
+     * 리더 스케줄러의 입장 결과 반영
+     * @param admitted    실제 입장 인원
+     * @param activeCount 입장 후 좌석 선택/결제 단계 인원
+     * @param elapsedMs   직전 주기부터 경과 시간
+     */
+    public void recordAdmission(Long concertId, int admitted, long activeCount, long elapsedMs) {
+        double target = targetRate(concertId);
+
+        Long lastActive = lastActiveCounts.put(concertId, activeCount);
+        if (lastActive != null && elapsedMs > 0) {
+            long drained = Math.max(0, lastActive + admitted - activeCount);
+            drainRates.merge(concertId, drained * 1000.0 / elapsedMs, (prev, current) -> ALPHA * current + (1 - ALPHA) * prev);
+        }
+
+        double utilization = (double) activeCount / admissionProperties.getMaxActive();
+        Double drainRate = drainRates.get(concertId);
+        boolean drainBound = drainRate != null && utilization >= admissionProperties.getTargetUtilization();
+        measuredRates.put(concertId, drainBound ? drainRate : target);
+
+        if (admissionProperties.isAdaptive()) {
+            targetRates.put(concertId, adjust(concertId, target, activeCount));
+        }
+    }
+
+    /**
+     * 리더가 아니었던 구간의 active 변화는 이탈 속도로 계산하지 않음
+     */
+    public void resetActiveSamples() {
+        lastActiveCounts.clear();
+    }
+
+    private double adjust(Long concertId, double current, long activeCount) {
+        double ceiling = admissionProperties.rateOf(concertId);
+        double utilization = (double) activeCount / admissionProperties.getMaxActive();
+
+        double next;
+        if (utilization > 1.0) {
+            next = current * OVERLOAD_FACTOR;
+        } else if (utilization > admissionProperties.getTargetUtilization()) {
+            next = current * BUSY_FACTOR;
+        } else {
+            next = current + ceiling * INCREASE_RATIO;
+        }
+        return Math.max(admissionProperties.getMinRate(), Math.min(ceiling, next));
+    }
+
+    /**
+     * 예상 대기 시간 계산용 입장 속도 (측정값이 없으면 설정값)
+     */
+    public double admissionRate(Long concertId) {
+        double rate = measuredRates.getOrDefault(concertId, admissionProperties.rateOf(concertId));
+        return Math.max(admissionProperties.getMinRate(), rate);
+    }
+
+    /**
+     * 리더: 측정 속도를 다른 노드와 공유 (주기당 1회)
+     */
+    public void publish() {
+        if (measuredRates.isEmpty()) {
+            return;
+        }
+        Map<String, String> values = new HashMap<>();
+        measuredRates.forEach((concertId, rate) -> values.put(String.valueOf(concertId), String.valueOf(rate)));
+        redissonClient.<String, String>getMap(RATE_KEY, StringCodec.INSTANCE).putAll(values);
+    }
+
+    public void retainConcerts(List<Long> concertIds) {
+        measuredRates.keySet().retainAll(concertIds);
+        targetRates.keySet().retainAll(concertIds);
+        drainRates.keySet().retainAll(concertIds);
+        lastActiveCounts.keySet().retainAll(concertIds);
+    }
+
+    /**
+     * 모든 노드: 리더가 공유한 측정 속도를 읽어오고 메트릭 갱신
+     */
+    @Scheduled(fixedDelay = 2000)
+    public void refresh() {
+        try {
+            RMap<String, String> shared = redissonClient.getMap(RATE_KEY, StringCodec.INSTANCE);
+            shared.readAllMap().forEach((concertId, rate) -> measuredRates.put(Long.parseLong(concertId), Double.parseDouble(rate)));
+        } catch (Exception e) {
+            log.warn("[QueueRate] 입장 속도 동기화 실패: {}", e.getMessage());
+        }
+
+        measuredRateGauge.register(rows(measuredRates), true);
+        targetRateGauge.register(rows(targetRates), true);
+    }
+
+    private List<MultiGauge.Row<?>> rows(Map<Long, Double> rates) {
+        List<MultiGauge.Row<?>> rows = new ArrayList<>(rates.size());
+        rates.forEach((concertId, rate) -> rows.add(MultiGauge.Row.of(Tags.of("concertId", String.valueOf(concertId)), rate)));
+        return rows;
+    }
+}
@@ -2,98 +2,394 @@ package com.dev.ticketing_system.service;
 
 import com.dev.ticketing_system.dto.QueueStatusDto;
 import lombok.RequiredArgsConstructor;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
 import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 
+/**
+ * 대기열 서비스
+ * - 공연 대기열은 K개의 샤드 ZSET 으로 나눠 저장 (concert:queue:{concertId:shard}, 해시 태그로 샤드마다 다른 슬롯)
+ * - 유저는 userId 해시로 샤드가 고정되고, 점수는 공연별 전역 번호표(concert:queue:seq) → 샤드가 달라도 전체 순서가 일관됨
+ * - 전체 순번 = 샤드별로 내 번호표보다 앞선 인원의 합, 입장은 샤드들의 앞부분을 번호표 순으로 병합해서 처리
+ * - 입장 유저(active) ZSET 도 같은 해시 태그를 써서 샤드별 입장 스크립트가 한 슬롯 안에서 원자적으로 동작
+ * 샤드 수(ticketing.queue.shards)는 판매 도중 바꾸면 안 됨 (유저 → 샤드 매핑이 바뀜)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class QueueService {
 
     private final RedissonClient redissonClient;
-    private static final String QUEUE_KEY = "concert:queue:";
-    private static final String ACTIVE_KEY = "concert:active:";
-    private static final double THROUGHTPUT_PER_SECOND = 50.0 / 3.0;
+    private final QueueRateEstimator rateEstimator;
+    public static final String QUEUE_KEY = "concert:queue:";
+    public static final String ACTIVE_KEY = "concert:active:";   // 공연별 입장 유저 ZSET (score = 만료 시각 ms)
+    public static final String SEQUENCE_KEY = "concert:queue:seq:";
+    private static final Duration ACTIVE_TTL = Duration.ofMinutes(10);
+    private static final int RANK_SCAN_PAGE_SIZE = 5000;
+
+    @Value("${ticketing.queue.shards:1}")
+    private int shardCount = 1;
+
+    /**
+     * KEYS[1] = concert:queue:{concertId:shard}, KEYS[2] = concert:active:{concertId:shard}
+     * ARGV[1] = 입장 인원, ARGV[2] = 입장 유효 시간(ms)
+     * 만료된 입장 유저 정리 → 상위 N명을 꺼내면서(ZPOPMIN) 만료 시각과 함께 active ZSET 에 추가
+     * 조회 후 삭제 사이의 경합이 없고, 입장 주기마다 만료 정리가 함께 수행됨
+     * 반환: [입장 후 active 인원, 입장 처리된 userId...] (대기 순서대로)
+     */
+    private static final String ADMIT_SCRIPT = """
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+            local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[1])
+            local admitted = {}
+            local expiresAt = now + tonumber(ARGV[2])
+            for i = 1, #popped, 2 do
+                redis.call('ZADD', KEYS[2], expiresAt, popped[i])
+                admitted[#admitted + 1] = popped[i]
+            end
+            if #admitted > 0 then
+                redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            end
+            table.insert(admitted, 1, redis.call('ZCARD', KEYS[2]))
+            return admitted
+            """;
+
+    /**
+     * KEYS[1] = concert:queue:{concertId:0}, KEYS[2] = concert:queue:seq:{concertId:0} (같은 슬롯)
+     * ARGV[1] = userId
+     * 이미 대기 중이면 기존 번호표 유지 (더블 클릭 등 중복 요청에도 순서가 바뀌지 않음)
+     * 반환: 내 앞에 있는 인원 수
+     */
+    private static final String REGISTER_SCRIPT = """
+            if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                redis.call('ZADD', KEYS[1], redis.call('INCR', KEYS[2]), ARGV[1])
+            end
+            return redis.call('ZRANK', KEYS[1], ARGV[1])
+            """;
+
+    /**
+     * KEYS[1] = concert:queue:{concertId:shard}
+     * ARGV[1] = userId, ARGV[2] = 발급받은 번호표
+     * 반환: [등록된 번호표 (이미 대기 중이면 기존 번호표), 샤드 내 순번]
+     */
+    private static final String REGISTER_WITH_TICKET_SCRIPT = """
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not score then
+                score = ARGV[2]
+                redis.call('ZADD', KEYS[1], score, ARGV[1])
+            end
+            return {tonumber(score), redis.call('ZRANK', KEYS[1], ARGV[1])}
+            """;
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public static String queueKey(Long concertId, int shard) {
+        return QUEUE_KEY + "{" + concertId + ":" + shard + "}";
+    }
+
+    public static String activeKey(Long concertId, int shard) {
+        return ACTIVE_KEY + "{" + concertId + ":" + shard + "}";
+    }
+
+    // 샤드 0 과 같은 슬롯
+    public static String sequenceKey(Long concertId) {
+        return SEQUENCE_KEY + "{" + concertId + ":0}";
+    }
+
+    int shardOf(String userId) {
+        return Math.floorMod(userId.hashCode(), shardCount);
+    }
 
     /**
      * 대기열 참가
+     * - 샤드 1개: 등록 스크립트 1회 (중복 확인 + 번호표 발급 + 등록 + 순번 조회를 원자적으로, 1 round trip)
+     * - 샤드 K개: 번호표 발급(INCR) → 내 샤드 등록 스크립트 + 다른 샤드 ZCOUNT 파이프라인 (2 round trip)
+     *   번호표는 Redis 에서 발급하므로 노드 간 시계 차이로 순서가 뒤바뀌지 않음
+     * @return 내 앞에 있는 인원 수
      */
     public Long registerQueue(Long concertId, String userId) {
-        String key = QUEUE_KEY + concertId;
-        RScoredSortedSet<String> queue = redissonClient.getScoredSortedSet(key);
+        int myShard = shardOf(userId);
 
-        Double score = queue.getScore(userId);
-        if (score == null) {
-            queue.add(System.currentTimeMillis(), userId);
+        if (shardCount == 1) {
+            Long ahead = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, REGISTER_SCRIPT,
+                    RScript.ReturnType.INTEGER, List.of(queueKey(concertId, myShard), sequenceKey(concertId)), userId);
+            return ahead;
         }
 
-        Integer rank = queue.rank(userId);
-        return (rank != null) ? rank.longValue() : 0L;
+        long ticket = redissonClient.getAtomicLong(sequenceKey(concertId)).incrementAndGet();
+
+        RBatch batch = redissonClient.createBatch();
+        RFuture<List<Object>> registered = batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, REGISTER_WITH_TICKET_SCRIPT,
+                RScript.ReturnType.MULTI, List.of(queueKey(concertId, myShard)), userId, String.valueOf(ticket));
+        List<RFuture<Integer>> otherShards = new ArrayList<>(shardCount - 1);
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (shard != myShard) {
+                otherShards.add(batch.getScoredSortedSet(queueKey(concertId, shard), StringCodec.INSTANCE)
+                        .countAsync(Double.NEGATIVE_INFINITY, true, ticket, false));
+            }
+        }
+        batch.execute();
+
+        List<Object> result = registered.toCompletableFuture().join();
+        long score = ((Number) result.get(0)).longValue();
+        if (score != ticket) {
+            // 이미 등록된 유저 (새로 받은 번호표는 버려짐) → 기존 번호표 기준으로 다시 셈
+            return countAhead(concertId, score);
+        }
+        long ahead = ((Number) result.get(1)).longValue();
+        for (RFuture<Integer> count : otherShards) {
+            ahead += count.toCompletableFuture().join();
+        }
+        return ahead;
     }
 
     /**
      * 내 순서 확인
      */
     public Long getRank(Long concertId, String userId) {
-        String key = QUEUE_KEY + concertId;
-        Integer rank = redissonClient.getScoredSortedSet(key).rank(userId);
-        return (rank != null) ? rank.longValue() + 1 : 0L;
+        Double score = shardQueue(concertId, shardOf(userId)).getScore(userId);
+        return (score != null) ? countAhead(concertId, score) + 1 : 0L;
+    }
+
+    /**
+     * 입장 처리 결과
+     * @param userIds     이번에 입장한 유저 (대기 순서대로)
+     * @param activeCount 입장 처리 후 좌석 선택/결제 단계에 있는 인원
+     */
+    public record Admission(Set<String> userIds, long activeCount) {
     }
 
     /**
      * 대기열에서 상위 N명을 추출하여 입장 허용 (Active 상태로 전환)
+     * - 샤드 1개: 입장 스크립트 1회 (1 round trip)
+     * - 샤드 K개: 샤드별 앞부분 조회(파이프라인) → 번호표 순 병합으로 샤드별 인원 결정 → 샤드별 입장 스크립트(파이프라인)
+     *   입장은 리더 노드만 처리하므로 조회와 입장 사이에 앞부분이 바뀌지 않음 (새 유저는 항상 뒤에 붙음)
+     */
+    public Admission allowEntry(Long concertId, int count) {
+        if (shardCount == 1) {
+            List<Object> result = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, ADMIT_SCRIPT,
+                    RScript.ReturnType.MULTI, List.of(queueKey(concertId, 0), activeKey(concertId, 0)),
+                    String.valueOf(count), String.valueOf(ACTIVE_TTL.toMillis()));
+            return toAdmission(concertId, List.of(result));
+        }
+
+        int[] counts = splitByShard(concertId, count);
+
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<List<Object>>> results = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            results.add(batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, ADMIT_SCRIPT,
+                    RScript.ReturnType.MULTI, List.of(queueKey(concertId, shard), activeKey(concertId, shard)),
+                    String.valueOf(counts[shard]), String.valueOf(ACTIVE_TTL.toMillis())));
+        }
+        batch.execute();
+
+        return toAdmission(concertId, results.stream().map(future -> future.toCompletableFuture().join()).toList());
+    }
+
+    private Admission toAdmission(Long concertId, List<List<Object>> shardResults) {
+        Set<String> enteredUsers = new LinkedHashSet<>();
+        long activeCount = 0;
+        for (List<Object> result : shardResults) {
+            activeCount += ((Number) result.get(0)).longValue();
+            for (int i = 1; i < result.size(); i++) {
+                enteredUsers.add((String) result.get(i));
+            }
+        }
+
+        if (!enteredUsers.isEmpty()) {
+            log.info("입장 허용 (Concert: {}, {}명, {}분간 유효)", concertId, enteredUsers.size(), ACTIVE_TTL.toMinutes());
+        }
+        return new Admission(enteredUsers, activeCount);
+    }
+
+    // 샤드별 앞 N명을 번호표 순으로 병합해서 샤드마다 몇 명씩 입장시킬지 계산
+    private int[] splitByShard(Long concertId, int count) {
+        int[] counts = new int[shardCount];
+        if (count <= 0) {
+            return counts;
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Collection<ScoredEntry<String>>>> heads = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            heads.add(batch.<String>getScoredSortedSet(queueKey(concertId, shard), StringCodec.INSTANCE)
+                    .entryRangeAsync(0, count - 1));
+        }
+        batch.execute();
+
+        List<double[]> candidates = new ArrayList<>(); // [번호표, 샤드]
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (ScoredEntry<String> entry : heads.get(shard).toCompletableFuture().join()) {
+                candidates.add(new double[]{entry.getScore(), shard});
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(candidate -> candidate[0]));
+
+        for (int i = 0; i < Math.min(count, candidates.size()); i++) {
+            counts[(int) candidates.get(i)[1]]++;
+        }
+        return counts;
+    }
+
+    /**
+     * 입장 허용 여부 + 만료 시각 (ZSCORE 로 조회 - 정리 전 만료된 유저도 여기서 걸러짐)
+     * 요청마다 부르지 말고 입장권(QueuePassService) 발급 시 1회만 확인
+     * @return 입장 만료 시각(ms), 입장 상태가 아니면 null
      */
-    public Set<String> allowEntry(Long concertId, int count) {
-        String queueKey = QUEUE_KEY + concertId;
-        RScoredSortedSet<String> queue = redissonClient.getScoredSortedSet(queueKey);
+    public Long getActiveExpiry(Long concertId, String userId) {
+        Double expiresAt = redissonClient.getScoredSortedSet(activeKey(concertId, shardOf(userId)), StringCodec.INSTANCE)
+                .getScore(userId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis() ? expiresAt.longValue() : null;
+    }
 
-        Collection<String> usersToAllow = queue.valueRange(0, count - 1);
-        Set<String> enteredUsers = new HashSet<>();
+    /**
+     * 입장 유저 제거 (결제 완료 / 강제 퇴장) - 이미 발급된 입장권은 QueuePassService.revoke 로 따로 무효화해야 함
+     */
+    public boolean removeActive(Long concertId, String userId) {
+        return redissonClient.getScoredSortedSet(activeKey(concertId, shardOf(userId)), StringCodec.INSTANCE).remove(userId);
+    }
 
-        if (usersToAllow.isEmpty()) {
-            return enteredUsers;
+    /**
+     * 전체 대기 인원 (샤드 합계)
+     */
+    public int getQueueSize(Long concertId) {
+        if (shardCount == 1) {
+            return shardQueue(concertId, 0).size();
         }
 
-        for (String userId : usersToAllow) {
-            String userActiveKey = ACTIVE_KEY + concertId + ":" + userId;
-            redissonClient.getBucket(userActiveKey).set("true", Duration.ofMinutes(10));
-            queue.remove(userId);
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Integer>> sizes = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            sizes.add(batch.getScoredSortedSet(queueKey(concertId, shard), StringCodec.INSTANCE).sizeAsync());
+        }
+        batch.execute();
+        return sizes.stream().mapToInt(size -> size.toCompletableFuture().join()).sum();
+    }
 
-            log.info("User [{}] 입장 허용 (Concert: {}, 10분간 유효)", userId, concertId);
-            enteredUsers.add(userId);
+    /**
+     * 대기열을 앞에서부터 페이지 단위로 한 번 훑으면서 주어진 유저들의 순번(1부터)을 계산
+     * - 유저마다 ZRANK 를 보내지 않고, 마지막 대상 유저를 찾으면 바로 중단
+     * - 샤드가 여러 개면 샤드별 페이지를 번호표 순으로 병합하면서 전체 순번을 셈
+     * - 대기열에 없는 유저(이미 입장 / 이탈)는 결과에서 빠짐
+     */
+    public Map<String, Long> findRanks(Long concertId, Set<String> userIds) {
+        PriorityQueue<ShardCursor> cursors = new PriorityQueue<>(Comparator.comparingDouble(cursor -> cursor.head.getScore()));
+        for (int shard = 0; shard < shardCount; shard++) {
+            ShardCursor cursor = new ShardCursor(shardQueue(concertId, shard));
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
         }
 
-        return enteredUsers;
+        Map<String, Long> ranks = new HashMap<>();
+        long rank = 0;
+        while (!cursors.isEmpty() && ranks.size() < userIds.size()) {
+            ShardCursor cursor = cursors.poll();
+            rank++;
+            if (userIds.contains(cursor.head.getValue())) {
+                ranks.put(cursor.head.getValue(), rank);
+            }
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        return ranks;
     }
 
     /**
-     * 입장 허용된 유저인지 확인 (TTL이 적용된 키가 존재하는지 체크)
+     * 예상 대기 시간 = 순번 / 측정 처리 속도 (active 가 가득 차 있으면 실제 이탈 속도, QueueRateEstimator 참고)
      */
-    public boolean isAllowed(Long concertId, String userId) {
-        String userActiveKey = ACTIVE_KEY + concertId + ":" + userId;
-        return redissonClient.getBucket(userActiveKey).isExists();
+    public long estimateWaitSeconds(Long concertId, long rank) {
+        return (long) (rank / rateEstimator.admissionRate(concertId));
     }
 
     public QueueStatusDto getQueueStatus(Long concertId, String userId) {
-        String key = QUEUE_KEY + concertId;
-        RScoredSortedSet<String> queue = redissonClient.getScoredSortedSet(key);
-
-        Integer rank = queue.rank(userId);
+        Double score = shardQueue(concertId, shardOf(userId)).getScore(userId);
 
-        if (rank == null) {
+        if (score == null) {
             return new QueueStatusDto(0L, 0L, true);
         }
 
-        long myRank = rank + 1;
-        long estimatedSeconds = (long) (myRank / THROUGHTPUT_PER_SECOND);
+        long myRank = countAhead(concertId, score) + 1;
+        long estimatedSeconds = estimateWaitSeconds(concertId, myRank);
 
         return new QueueStatusDto(myRank, estimatedSeconds, false);
     }
+
+    private RScoredSortedSet<String> shardQueue(Long concertId, int shard) {
+        return redissonClient.getScoredSortedSet(queueKey(concertId, shard), StringCodec.INSTANCE);
+    }
+
+    // 번호표가 score 보다 작은 인원 수 (샤드별 ZCOUNT 합계, 파이프라인 1회)
+    private long countAhead(Long concertId, double score) {
+        if (shardCount == 1) {
+            return shardQueue(concertId, 0).count(Double.NEGATIVE_INFINITY, true, score, false);
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Integer>> counts = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            counts.add(batch.getScoredSortedSet(queueKey(concertId, shard), StringCodec.INSTANCE)
+                    .countAsync(Double.NEGATIVE_INFINITY, true, score, false));
+        }
+        batch.execute();
+        return counts.stream().mapToLong(count -> count.toCompletableFuture().join()).sum();
+    }
+
+    /**
+     * 샤드 1개를 번호표 순으로 페이지 단위로 읽는 커서
+     */
+    private static final class ShardCursor {
+
+        private final RScoredSortedSet<String> queue;
+        private Iterator<ScoredEntry<String>> page = Collections.emptyIterator();
+        private int nextStart;
+        private boolean lastPage;
+        private ScoredEntry<String> head;
+
+        private ShardCursor(RScoredSortedSet<String> queue) {
+            this.queue = queue;
+        }
+
+        private boolean advance() {
+            if (!page.hasNext()) {
+                if (lastPage) {
+                    return false;
+                }
+                Collection<ScoredEntry<String>> entries = queue.entryRange(nextStart, nextStart + RANK_SCAN_PAGE_SIZE - 1);
+                nextStart += RANK_SCAN_PAGE_SIZE;
+                lastPage = entries.size() < RANK_SCAN_PAGE_SIZE;
+                page = entries.iterator();
+                if (!page.hasNext()) {
+                    return false;
+                }
+            }
+            head = page.next();
+            return true;
+        }
+    }
 }
@@ -0,0 +1,109 @@
+package com.dev.ticketing_system.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드에 접속해 /topic/queue/{userId} 를 구독 중인 대기 유저 목록
+ * - 입장 알림은 모든 노드로 발행되므로, 각 노드는 여기에 있는 유저에게만 전달
+ * - 구독 시 concertId 헤더를 보낸 유저는 대기 순번 push 대상 (공연별로 묶어서 조회)
+ */
+@Slf4j
+@Component
+public class QueueSessionRegistry {
+
+    public static final String QUEUE_DESTINATION_PREFIX = "/topic/queue/";
+    public static final String CONCERT_ID_HEADER = "concertId";
+
+    // userId -> sessionId 목록 (같은 유저가 탭을 여러 개 열 수 있음)
+    private final Map<String, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+    // sessionId -> (subscriptionId -> userId)
+    private final Map<String, Map<String, String>> subscriptionsBySession = new ConcurrentHashMap<>();
+    // userId -> 대기 중인 concertId
+    private final Map<String, Long> concertByUser = new ConcurrentHashMap<>();
+
+    public boolean isConnected(String userId) {
+        return sessionsByUser.containsKey(userId);
+    }
+
+    public int size() {
+        return sessionsByUser.size();
+    }
+
+    /**
+     * 공연별로 묶은 이 노드의 대기 유저 (concertId 헤더로 구독한 유저만)
+     */
+    public Map<Long, Set<String>> waitersByConcert() {
+        Map<Long, Set<String>> result = new HashMap<>();
+        concertByUser.forEach((userId, concertId) -> result.computeIfAbsent(concertId, key -> new HashSet<>()).add(userId));
+        return result;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(QUEUE_DESTINATION_PREFIX)) {
+            return;
+        }
+
+        String userId = destination.substring(QUEUE_DESTINATION_PREFIX.length());
+        String sessionId = accessor.getSessionId();
+
+        subscriptionsBySession.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), userId);
+        sessionsByUser.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(sessionId);
+
+        String concertId = accessor.getFirstNativeHeader(CONCERT_ID_HEADER);
+        if (concertId != null) {
+            try {
+                concertByUser.put(userId, Long.parseLong(concertId));
+            } catch (NumberFormatException e) {
+                log.debug("[QueueSession] 잘못된 concertId 헤더: {}", concertId);
+            }
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = subscriptionsBySession.get(accessor.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+
+        String userId = subscriptions.remove(accessor.getSubscriptionId());
+        if (userId != null && !subscriptions.containsValue(userId)) {
+            removeSession(userId, accessor.getSessionId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(userId -> removeSession(userId, event.getSessionId()));
+        }
+    }
+
+    private void removeSession(String userId, String sessionId) {
+        Set<String> remaining = sessionsByUser.computeIfPresent(userId, (key, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        if (remaining == null) {
+            concertByUser.remove(userId);
+        }
+    }
+}
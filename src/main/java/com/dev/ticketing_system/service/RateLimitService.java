@@ -0,0 +1,171 @@
+package com.dev.ticketing_system.service;
+
+import com.dev.ticketing_system.config.RateLimitProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 2단계 요청 제한기
+ * - 1단계: 노드 로컬 토큰 버킷 (스트라이프별 CAS, 락 없음) 에서 대부분의 요청을 판정
+ * - 2단계: 로컬 토큰이 떨어졌을 때만 Redis 전역 예산(고정 window 카운터)에서 lease-size 만큼 빌려옴
+ * - 전역 예산이 바닥나면 해당 window 가 끝날 때까지 Redis 호출 없이 로컬에서 바로 거절
+ * - Redis 장애 시에는 노드 몫(한도 / expected-nodes)까지만 로컬에서 허용하고, 소진되면 window 동안 거절
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RateLimitService {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    /**
+     * KEYS[1] = rate_limit:{clientIp}:{route}:{window}
+     * ARGV[1] = window 당 허용 수, ARGV[2] = 요청 lease 크기, ARGV[3] = 키 TTL(ms)
+     * 반환: 실제로 빌려준 토큰 수 (0 이면 이번 window 예산 소진)
+     */
+    private static final String LEASE_SCRIPT = """
+            local used = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local grant = math.min(tonumber(ARGV[2]), tonumber(ARGV[1]) - used)
+            if grant <= 0 then
+                return 0
+            end
+            redis.call('INCRBY', KEYS[1], grant)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return grant
+            """;
+
+    private final RedissonClient redissonClient;
+    private final RateLimitProperties properties;
+
+    private final Map<String, LeasedBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param route 라우트 템플릿 (raw URI 를 넘기면 경로 변수마다 버킷/키가 따로 생김)
+     */
+    public boolean tryAcquire(String clientIp, String route) {
+        long windowMillis = properties.getWindowSeconds() * 1000;
+        long now = System.currentTimeMillis();
+        long window = now / windowMillis;
+
+        String bucketKey = clientIp + "|" + route;
+        LeasedBucket bucket = buckets.get(bucketKey);
+        if (bucket == null || bucket.window != window) {
+            bucket = buckets.compute(bucketKey,
+                    (k, prev) -> prev == null || prev.window != window ? new LeasedBucket(window, properties.getStripes()) : prev);
+        }
+
+        if (bucket.tryTake()) {
+            return true;
+        }
+        return lease(bucket, clientIp, route, now, windowMillis);
+    }
+
+    /**
+     * 지난 window 의 버킷 정리 (로컬 맵이 클라이언트 수만큼 계속 커지지 않도록)
+     */
+    @Scheduled(fixedDelay = 10000)
+    public void evictExpired() {
+        long window = System.currentTimeMillis() / (properties.getWindowSeconds() * 1000);
+        buckets.values().removeIf(bucket -> bucket.window < window);
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private boolean lease(LeasedBucket bucket, String clientIp, String route, long now, long windowMillis) {
+        // 같은 버킷의 동시 lease 는 1회로 합침 (먼저 들어간 스레드가 채운 토큰을 나머지가 사용)
+        // synchronized 대신 ReentrantLock: 안에서 Redis 응답을 기다리므로 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록
+        bucket.leaseLock.lock();
+        try {
+            if (bucket.tryTake()) {
+                return true;
+            }
+            if (bucket.exhausted) {
+                return false;
+            }
+
+            long limit = properties.limitOf(route);
+            long leaseSize = Math.max(1, Math.min(properties.getLeaseSize(), limit));
+            long ttlMillis = (bucket.window + 1) * windowMillis - now + 1000;
+
+            long granted;
+            try {
+                RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+                granted = script.eval(RScript.Mode.READ_WRITE, LEASE_SCRIPT, RScript.ReturnType.INTEGER,
+                        List.of(KEY_PREFIX + "{" + clientIp + "}:" + route + ":" + bucket.window),
+                        String.valueOf(limit), String.valueOf(leaseSize), String.valueOf(ttlMillis));
+            } catch (Exception e) {
+                // Redis 장애 시에도 API 전체를 막지 않도록 노드 로컬 한도로만 제한
+                granted = Math.min(leaseSize, properties.fallbackLimitOf(route) - bucket.fallbackGranted);
+                if (granted > 0) {
+                    bucket.fallbackGranted += granted;
+                }
+                log.warn("[RateLimit] 전역 예산 조회 실패, 로컬 한도로 대체: route={}, granted={}, reason={}", route, Math.max(0, granted), e.getMessage());
+            }
+
+            if (granted <= 0) {
+                bucket.exhausted = true;
+                return false;
+            }
+            bucket.deposit(granted - 1); // 1개는 현재 요청이 사용
+            return true;
+        } finally {
+            bucket.leaseLock.unlock();
+        }
+    }
+
+    /**
+     * window 1개 동안 유효한 로컬 토큰 버킷
+     * - 토큰을 스트라이프로 나눠 담아 같은 클라이언트/라우트로 몰리는 요청의 CAS 경합을 분산
+     */
+    static final class LeasedBucket {
+
+        private final long window;
+        private final AtomicLongArray stripes;
+        private final ReentrantLock leaseLock = new ReentrantLock();
+        private volatile boolean exhausted;
+        private long fallbackGranted; // Redis 장애로 로컬에서 대신 발급한 토큰 수 (leaseLock 으로 보호)
+
+        LeasedBucket(long window, int stripeCount) {
+            this.window = window;
+            this.stripes = new AtomicLongArray(Math.max(1, stripeCount));
+        }
+
+        boolean tryTake() {
+            int n = stripes.length();
+            int start = (int) (Thread.currentThread().threadId() % n);
+            for (int i = 0; i < n; i++) {
+                int stripe = (start + i) % n;
+                long tokens;
+                while ((tokens = stripes.get(stripe)) > 0) {
+                    if (stripes.compareAndSet(stripe, tokens, tokens - 1)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        void deposit(long tokens) {
+            int n = stripes.length();
+            for (int i = 0; i < n; i++) {
+                long share = tokens / n + (i < tokens % n ? 1 : 0);
+                if (share > 0) {
+                    stripes.addAndGet(i, share);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.dev.ticketing_system.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 선점(hold) 엔진
+ * - 좌석 점유 여부 확인 / 점유자 기록 / TTL 설정 / 좌석 캐시 갱신을 Lua 스크립트 한 번으로 처리
+ * - 락 키(seat:lock:{concertId}:seatId)의 값 자체가 점유자 userId 이므로 "락은 있는데 점유자가 없는" 구간이 없음
+ * - 상태가 바뀔 때마다 seats:held:{concertId} (만료시각 ZSET) 갱신 + seats:events 채널로 변경분 발행
+ * - 이벤트마다 공연별 버전(seats:version:{concertId})을 올려서 함께 발행 → 모든 노드가 같은 버전 번호로 좌석 맵 변경 이력을 관리
+ * - 스크립트가 건드리는 좌석 키는 모두 {concertId} 해시 태그를 공유 → Redis Cluster 에서도 한 슬롯 안에서 실행 (CROSSSLOT 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatHoldEngine {
+
+    private final RedissonClient redissonClient;
+
+    public static final String LOCK_KEY = "seat:lock:";
+    public static final String CACHE_KEY_PREFIX = "seats:concert:";
+    public static final String HELD_KEY_PREFIX = "seats:held:";
+    public static final String VERSION_KEY_PREFIX = "seats:version:"; // 공연별 좌석 상태 버전 (이벤트마다 INCR)
+    public static final String SEAT_EVENT_CHANNEL = "seats:events";
+    public static final Duration HOLD_TTL = Duration.ofMinutes(5);
+
+    public static String cacheKey(Long concertId) {
+        return CACHE_KEY_PREFIX + "{" + concertId + "}";
+    }
+
+    public static String heldKey(Long concertId) {
+        return HELD_KEY_PREFIX + "{" + concertId + "}";
+    }
+
+    public static String versionKey(Long concertId) {
+        return VERSION_KEY_PREFIX + "{" + concertId + "}";
+    }
+
+    // 같은 공연의 좌석 캐시 / ZSET / 버전 키와 같은 슬롯
+    public static String lockKey(Long concertId, Long seatId) {
+        return LOCK_KEY + "{" + concertId + "}:" + seatId;
+    }
+
+    /**
+     * 좌석 이벤트 메시지: H:{concertId}:{seatId}:{만료시각ms}:{버전} / R:{concertId}:{seatId}:{버전} / S:{concertId}:{seatId}:{버전}
+     * 상태 변경과 같은 스크립트 안에서 PUBLISH 하므로 이벤트 누락/역전이 없음
+     */
+    public static final String EVENT_HELD = "H";
+    public static final String EVENT_RELEASED = "R";
+    public static final String EVENT_SOLD = "S";
+
+    /**
+     * 좌석 캐시 값 읽기/쓰기 함수 (스크립트 앞에 붙여서 사용)
+     * - '{' 로 시작하면 기존 JSON 포맷, 아니면 SeatCacheValueSerializer 바이너리 ([version][status][locked]...)
+     * - 바이너리는 status(2번째) / locked(3번째) 바이트만 교체하므로 디코딩 / 인코딩 없음
+     */
+    private static final String SEAT_VALUE_FUNCTIONS = """
+            local function isSold(value)
+                if string.byte(value, 1) == 123 then return cjson.decode(value)['status'] == 'SOLD' end
+                return string.sub(value, 2, 2) == 'S'
+            end
+            local function withState(value, sold, locked)
+                if string.byte(value, 1) == 123 then
+                    local seat = cjson.decode(value)
+                    if sold then seat['status'] = 'SOLD' end
+                    seat['locked'] = locked
+                    return cjson.encode(seat)
+                end
+                local status = sold and 'S' or string.sub(value, 2, 2)
+                return string.sub(value, 1, 1) .. status .. string.char(locked and 1 or 0) .. string.sub(value, 4)
+            end
+            """;
+
+    /**
+     * KEYS[1] = seats:concert:{concertId}, KEYS[2] = seats:held:{concertId}, KEYS[3] = seats:version:{concertId}, KEYS[4..] = seat:lock:{concertId}:seatId
+     * ARGV[1] = userId, ARGV[2] = TTL(ms), ARGV[3] = 캐시 필수 여부('1'), ARGV[4] = concertId, ARGV[5] = 이벤트 채널, ARGV[6..] = seatId
+     * 모든 좌석을 먼저 검사한 뒤 하나라도 실패하면 아무것도 쓰지 않음 (all-or-nothing)
+     * 반환: 1 선점 성공, 0 다른 유저가 선점 중, -1 판매 완료, -2 좌석 캐시 없음(재구성 필요), -3 캐시에 없는 좌석(다른 공연 / 잘못된 ID)
+     */
+    private static final String HOLD_SCRIPT = SEAT_VALUE_FUNCTIONS + """
+            local n = #KEYS - 3
+            local seats = {}
+            for i = 1, n do
+                local cached = redis.call('HGET', KEYS[1], ARGV[5 + i])
+                if cached then
+                    if isSold(cached) then return -1 end
+                    seats[i] = cached
+                elseif ARGV[3] == '1' then
+                    if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end
+                    return -3
+                end
+                local owner = redis.call('GET', KEYS[3 + i])
+                if owner and owner ~= ARGV[1] then return 0 end
+            end
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local expiresAt = now + tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+            for i = 1, n do
+                local seatId = ARGV[5 + i]
+                redis.call('SET', KEYS[3 + i], ARGV[1], 'PX', ARGV[2])
+                if seats[i] then
+                    redis.call('HSET', KEYS[1], seatId, withState(seats[i], false, true))
+                end
+                redis.call('ZADD', KEYS[2], expiresAt, seatId)
+                local version = redis.call('INCR', KEYS[3])
+                redis.call('PUBLISH', ARGV[5], 'H:' .. ARGV[4] .. ':' .. seatId .. ':' .. expiresAt .. ':' .. version)
+            end
+            return 1
+            """;
+
+    /**
+     * KEYS[1] = seats:concert:{concertId}, KEYS[2] = seats:held:{concertId}, KEYS[3] = seats:version:{concertId}, KEYS[4..] = seat:lock:{concertId}:seatId
+     * ARGV[1] = userId, ARGV[2] = concertId, ARGV[3] = 이벤트 채널, ARGV[4..] = seatId
+     * 반환: 해제된 좌석 수 (점유자가 아니거나 이미 해제된 좌석은 건너뜀)
+     */
+    private static final String RELEASE_SCRIPT = SEAT_VALUE_FUNCTIONS + """
+            local released = 0
+            for i = 1, #KEYS - 3 do
+                local seatId = ARGV[3 + i]
+                if redis.call('GET', KEYS[3 + i]) == ARGV[1] then
+                    redis.call('DEL', KEYS[3 + i])
+                    local cached = redis.call('HGET', KEYS[1], seatId)
+                    if cached then
+                        redis.call('HSET', KEYS[1], seatId, withState(cached, false, false))
+                    end
+                    redis.call('ZREM', KEYS[2], seatId)
+                    redis.call('PUBLISH', ARGV[3], 'R:' .. ARGV[2] .. ':' .. seatId .. ':' .. redis.call('INCR', KEYS[3]))
+                    released = released + 1
+                end
+            end
+            return released
+            """;
+
+    /**
+     * KEYS[1..] = seat:lock:{concertId}:seatId
+     * ARGV[1] = userId
+     * 반환: 1 모든 좌석 본인 점유, 0 점유 만료된 좌석 있음, -1 다른 유저 점유 좌석 있음
+     */
+    private static final String CHECK_OWNER_SCRIPT = """
+            local result = 1
+            for i = 1, #KEYS do
+                local owner = redis.call('GET', KEYS[i])
+                if not owner then
+                    result = 0
+                elseif owner ~= ARGV[1] then
+                    return -1
+                end
+            end
+            return result
+            """;
+
+    /**
+     * KEYS[1] = seat:lock:{concertId}:seatId, KEYS[2] = seats:concert:{concertId}, KEYS[3] = seats:held:{concertId}, KEYS[4] = seats:version:{concertId}
+     * ARGV[1] = seatId, ARGV[2] = concertId, ARGV[3] = 이벤트 채널
+     * 판매 확정: 점유 키 삭제 + 캐시 상태 SOLD 반영
+     */
+    private static final String MARK_SOLD_SCRIPT = SEAT_VALUE_FUNCTIONS + """
+            redis.call('DEL', KEYS[1])
+            local cached = redis.call('HGET', KEYS[2], ARGV[1])
+            if cached then
+                redis.call('HSET', KEYS[2], ARGV[1], withState(cached, true, false))
+            end
+            redis.call('ZREM', KEYS[3], ARGV[1])
+            redis.call('PUBLISH', ARGV[3], 'S:' .. ARGV[2] .. ':' .. ARGV[1] .. ':' .. redis.call('INCR', KEYS[4]))
+            return 1
+            """;
+
+    /**
+     * KEYS[1] = seats:concert:{concertId}
+     * ARGV[1] = TTL(ms), ARGV[2..] = seatId, 좌석 캐시 값 쌍
+     * DB 에서 읽은 좌석 상태를 캐시에 병합 - 캐시에 이미 SOLD 인 좌석은 덮어쓰지 않음
+     * (재구성용 DB 조회 이후 MARK_SOLD 가 먼저 반영됐을 수 있으므로 SOLD → AVAILABLE 되돌림 금지)
+     * 반환: SOLD 를 유지한 좌석 수
+     */
+    private static final String MERGE_CACHE_SCRIPT = SEAT_VALUE_FUNCTIONS + """
+            local kept = 0
+            for i = 2, #ARGV, 2 do
+                local cached = redis.call('HGET', KEYS[1], ARGV[i])
+                if cached and isSold(cached) then
+                    kept = kept + 1
+                else
+                    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+                end
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return kept
+            """;
+
+    public enum HoldResult {
+        HELD, ALREADY_HELD, SOLD, NOT_CACHED, UNKNOWN_SEAT
+    }
+
+    public enum OwnerCheck {
+        OWNER, EXPIRED, OTHER_OWNER
+    }
+
+    /**
+     * 좌석 선점 시도 (좌석 수와 무관하게 Redis 1 round trip, 하나라도 실패하면 전부 실패)
+     * @param requireCache true 이면 좌석 캐시가 없을 때 NOT_CACHED(재구성 필요), 캐시는 있는데 좌석이 없으면 UNKNOWN_SEAT 반환
+     */
+    public HoldResult holdAll(Long concertId, List<Long> seatIds, String userId, boolean requireCache) {
+        List<Object> args = new ArrayList<>(List.of(userId, String.valueOf(HOLD_TTL.toMillis()), requireCache ? "1" : "0",
+                String.valueOf(concertId), SEAT_EVENT_CHANNEL));
+        seatIds.forEach(seatId -> args.add(String.valueOf(seatId)));
+
+        Long result = eval(HOLD_SCRIPT, seatKeys(concertId, seatIds), args.toArray());
+
+        if (result == 1L) return HoldResult.HELD;
+        if (result == -1L) return HoldResult.SOLD;
+        if (result == -2L) return HoldResult.NOT_CACHED;
+        if (result == -3L) return HoldResult.UNKNOWN_SEAT;
+        return HoldResult.ALREADY_HELD;
+    }
+
+    /**
+     * 본인이 점유한 좌석만 해제
+     * @return 실제로 해제된 좌석 수
+     */
+    public int release(Long concertId, List<Long> seatIds, String userId) {
+        List<Object> args = new ArrayList<>(List.of(userId, String.valueOf(concertId), SEAT_EVENT_CHANNEL));
+        seatIds.forEach(seatId -> args.add(String.valueOf(seatId)));
+
+        Long released = eval(RELEASE_SCRIPT, seatKeys(concertId, seatIds), args.toArray());
+        return released.intValue();
+    }
+
+    public OwnerCheck checkOwner(Long concertId, List<Long> seatIds, String userId) {
+        List<Object> lockKeys = new ArrayList<>(seatIds.size());
+        seatIds.forEach(seatId -> lockKeys.add(lockKey(concertId, seatId)));
+
+        Long result = eval(CHECK_OWNER_SCRIPT, lockKeys, userId);
+
+        if (result == 1L) return OwnerCheck.OWNER;
+        if (result == 0L) return OwnerCheck.EXPIRED;
+        return OwnerCheck.OTHER_OWNER;
+    }
+
+    /**
+     * 결제 확정 후 점유 해제 및 캐시 SOLD 반영
+     */
+    public void markSold(Long concertId, Long seatId) {
+        eval(MARK_SOLD_SCRIPT, List.of(lockKey(concertId, seatId), cacheKey(concertId), heldKey(concertId), versionKey(concertId)),
+                String.valueOf(seatId), String.valueOf(concertId), SEAT_EVENT_CHANNEL);
+    }
+
+    /**
+     * 결제 확정된 좌석 여러 개를 파이프라인(RBatch)으로 한 번에 정리
+     * @param concertIdBySeatId seatId -> concertId
+     */
+    public void markSold(Map<Long, Long> concertIdBySeatId) {
+        if (concertIdBySeatId.isEmpty()) {
+            return;
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        RScriptAsync script = batch.getScript(StringCodec.INSTANCE);
+
+        concertIdBySeatId.forEach((seatId, concertId) -> script.evalAsync(RScript.Mode.READ_WRITE, MARK_SOLD_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(lockKey(concertId, seatId), cacheKey(concertId), heldKey(concertId), versionKey(concertId)),
+                String.valueOf(seatId), String.valueOf(concertId), SEAT_EVENT_CHANNEL));
+
+        batch.execute();
+    }
+
+    /**
+     * 좌석 캐시 재구성 (스크립트 1회라 MARK_SOLD 와 섞여 실행되지 않음)
+     * @param values seatId -> 좌석 캐시 템플릿의 해시 값 직렬화 결과 (compact / json 어느 포맷이든 가능)
+     * @return 캐시의 SOLD 를 유지한 좌석 수 (DB 조회 이후 판매 확정된 좌석)
+     */
+    public int mergeSeatCache(Long concertId, Map<Long, byte[]> values, Duration ttl) {
+        List<Object> args = new ArrayList<>(values.size() * 2 + 1);
+        args.add(bytes(String.valueOf(ttl.toMillis())));
+        values.forEach((seatId, value) -> {
+            args.add(bytes(String.valueOf(seatId)));
+            args.add(value);
+        });
+
+        RScript rScript = redissonClient.getScript(ByteArrayCodec.INSTANCE);
+        Long kept = rScript.eval(RScript.Mode.READ_WRITE, MERGE_CACHE_SCRIPT, RScript.ReturnType.INTEGER,
+                List.of(cacheKey(concertId)), args.toArray());
+        return kept.intValue();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private List<Object> seatKeys(Long concertId, List<Long> seatIds) {
+        List<Object> keys = new ArrayList<>(seatIds.size() + 3);
+        keys.add(cacheKey(concertId));
+        keys.add(heldKey(concertId));
+        keys.add(versionKey(concertId));
+        seatIds.forEach(seatId -> keys.add(lockKey(concertId, seatId)));
+        return keys;
+    }
+
+    private Long eval(String script, List<Object> keys, Object... args) {
+        RScript rScript = redissonClient.getScript(StringCodec.INSTANCE);
+        return rScript.eval(RScript.Mode.READ_WRITE, script, RScript.ReturnType.INTEGER, keys, args);
+    }
+}
@@ -0,0 +1,284 @@
+package com.dev.ticketing_system.service;
+
+import com.dev.ticketing_system.dto.ApiResponse;
+import com.dev.ticketing_system.dto.SeatMapSnapshot;
+import com.dev.ticketing_system.dto.SeatResponseDto;
+import com.dev.ticketing_system.entity.Seat;
+import com.dev.ticketing_system.repository.SeatRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 노드 로컬 좌석 맵 캐시
+ * - 공연별 좌석 상태(ConcertSeatMap)를 최초 1회 DB + seats:held ZSET 에서 로딩
+ * - 이후에는 SeatHoldEngine 스크립트가 발행하는 seats:events (Pub/Sub) 로 증분 갱신
+ * - 로딩(최초 / 재동기화) 중 도착한 이벤트는 공연별로 모아 두었다가 로딩 결과에 다시 반영 → 로딩 구간의 변경 유실 없음
+ * - 좌석 화면 / 좌석 조회 API 는 Redis·DB 조회 없이 메모리에서 바로 응답
+ * - 좌석 맵 API 용 스냅샷(JSON + gzip)은 버전이 바뀔 때만 다시 만들고, 그 사이 요청은 같은 바이트를 그대로 응답
+ * - 로딩마다 epoch 를 새로 부여 → ETag / 증분 조회는 (epoch, 버전) 이 모두 같을 때만 이전 응답을 이어 씀
+ * - 재동기화 결과가 현재 맵과 버전 / 상태까지 같으면 기존 맵(epoch / 변경 이력 / 스냅샷)을 유지 → 주기적 재동기화로 ETag 가 깨지지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatMapCache {
+
+    private final SeatRepository seatRepository;
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, ConcertSeatMap> seatMaps = new ConcurrentHashMap<>();
+    private final Map<Long, SeatMapSnapshot> snapshots = new ConcurrentHashMap<>();
+    // 로딩 중인 공연의 이벤트 버퍼 - 항상 pendingEvents.compute 안에서만 수정 (이벤트 반영과 로딩 결과 교체를 원자적으로 직렬화)
+    private final Map<Long, List<SeatEvent>> pendingEvents = new ConcurrentHashMap<>();
+    private final Map<Long, Object> loadLocks = new ConcurrentHashMap<>();
+    private final AtomicLong epochClock = new AtomicLong();
+    private int listenerId = -1;
+
+    private record SeatEvent(long version, Long seatId, char state, long heldUntil) {
+
+        void applyTo(ConcertSeatMap seatMap) {
+            seatMap.apply(version, seatId, state, heldUntil);
+        }
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        RTopic topic = redissonClient.getTopic(SeatHoldEngine.SEAT_EVENT_CHANNEL, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> applyEvent(message));
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (listenerId != -1) {
+            redissonClient.getTopic(SeatHoldEngine.SEAT_EVENT_CHANNEL, StringCodec.INSTANCE).removeListener(listenerId);
+        }
+    }
+
+    public List<SeatResponseDto> getSeatMap(Long concertId) {
+        return getOrLoad(concertId).toSeatResponses();
+    }
+
+    public ConcertSeatMap getOrLoad(Long concertId) {
+        ConcertSeatMap seatMap = seatMaps.get(concertId);
+        if (seatMap != null) {
+            return seatMap;
+        }
+        // 같은 공연에 대한 동시 로딩은 1회로 합침
+        synchronized (loadLock(concertId)) {
+            seatMap = seatMaps.get(concertId);
+            return seatMap != null ? seatMap : reload(concertId);
+        }
+    }
+
+    public void evict(Long concertId) {
+        seatMaps.remove(concertId);
+        snapshots.remove(concertId);
+    }
+
+    public long getVersion(Long concertId) {
+        return getOrLoad(concertId).getVersion();
+    }
+
+    public long getEpoch(Long concertId) {
+        return getOrLoad(concertId).getEpoch();
+    }
+
+    /**
+     * 현재 버전의 좌석 맵 스냅샷 (버전이 그대로면 캐시된 바이트 재사용)
+     */
+    public SeatMapSnapshot getSnapshot(Long concertId) {
+        ConcertSeatMap seatMap = getOrLoad(concertId);
+        SeatMapSnapshot cached = snapshots.get(concertId);
+        if (isCurrent(cached, seatMap)) {
+            return cached;
+        }
+        // compute 로 같은 공연의 동시 재생성을 1회로 합침
+        return snapshots.compute(concertId, (id, prev) -> isCurrent(prev, seatMap) ? prev : encodeSnapshot(seatMap));
+    }
+
+    /**
+     * @param epoch 클라이언트가 가진 스냅샷의 epoch (다르면 그 사이 재로딩된 것이므로 증분 불가)
+     * @return since 이후 변경분, 이력이 부족하거나 epoch 가 다르면 null (스냅샷으로 응답해야 함)
+     */
+    public ConcertSeatMap.Changes getChanges(Long concertId, long epoch, long since) {
+        ConcertSeatMap seatMap = getOrLoad(concertId);
+        if (seatMap.getEpoch() != epoch) {
+            return null;
+        }
+        return seatMap.changesSince(since);
+    }
+
+    private static boolean isCurrent(SeatMapSnapshot snapshot, ConcertSeatMap seatMap) {
+        return snapshot != null && snapshot.epoch() == seatMap.getEpoch() && snapshot.version() == seatMap.getVersion();
+    }
+
+    /**
+     * Pub/Sub 메시지 유실(재연결 등)에 대비한 주기적 전체 동기화
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void resync() {
+        for (Long concertId : seatMaps.keySet()) {
+            try {
+                synchronized (loadLock(concertId)) {
+                    reload(concertId);
+                }
+            } catch (Exception e) {
+                log.warn("[SeatMap] 좌석 맵 재동기화 실패: concertId={}, reason={}", concertId, e.getMessage());
+            }
+        }
+    }
+
+    void applyEvent(String message) {
+        String[] data = message.split(":");
+        if (data.length < 4) {
+            log.warn("[SeatMap] 잘못된 좌석 이벤트: {}", message);
+            return;
+        }
+
+        Long concertId = Long.parseLong(data[1]);
+        Long seatId = Long.parseLong(data[2]);
+        long version = Long.parseLong(data[data.length - 1]);
+        SeatEvent event = switch (data[0]) {
+            case SeatHoldEngine.EVENT_HELD -> new SeatEvent(version, seatId, ConcertSeatMap.STATE_HELD, Long.parseLong(data[3]));
+            case SeatHoldEngine.EVENT_RELEASED -> new SeatEvent(version, seatId, ConcertSeatMap.STATE_AVAILABLE, 0L);
+            case SeatHoldEngine.EVENT_SOLD -> new SeatEvent(version, seatId, ConcertSeatMap.STATE_SOLD, 0L);
+            default -> null;
+        };
+        if (event == null) {
+            log.warn("[SeatMap] 알 수 없는 좌석 이벤트: {}", message);
+            return;
+        }
+
+        pendingEvents.compute(concertId, (id, buffer) -> {
+            if (buffer != null) {
+                buffer.add(event); // 로딩 중 → 로딩이 끝나면 새 좌석 맵에 다시 반영
+            }
+            ConcertSeatMap seatMap = seatMaps.get(id);
+            if (seatMap != null) {
+                event.applyTo(seatMap); // 아직 조회된 적 없는 공연이면 무시 (로딩 시점에 최신 상태를 읽음)
+            }
+            return buffer;
+        });
+    }
+
+    /**
+     * 좌석 맵 로딩 후 교체 (loadLock 보유 상태에서 호출)
+     * - 로딩 중 도착한 이벤트 중 로딩 버전 이후의 것을 새 맵에 다시 반영
+     * - 기존 맵보다 버전이 낮으면 교체하지 않음 (이미 반영된 변경을 되돌리지 않도록)
+     * - 기존 맵과 버전 / 상태가 같으면 교체하지 않음 (어긋났을 때만 새 epoch 의 맵으로 교체)
+     */
+    private ConcertSeatMap reload(Long concertId) {
+        pendingEvents.put(concertId, new ArrayList<>());
+        ConcertSeatMap loaded;
+        try {
+            loaded = load(concertId);
+        } catch (RuntimeException e) {
+            pendingEvents.remove(concertId);
+            throw e;
+        }
+
+        ConcertSeatMap[] installed = new ConcertSeatMap[1];
+        pendingEvents.compute(concertId, (id, buffered) -> {
+            if (buffered != null) {
+                buffered.forEach(event -> event.applyTo(loaded)); // 로딩 버전 이하 이벤트는 apply 가 무시
+            }
+            ConcertSeatMap current = seatMaps.get(id);
+            if (current != null && loaded.getVersion() < current.getVersion()) {
+                log.warn("[SeatMap] 로딩 버전이 현재보다 낮아 교체 생략: concertId={}, loaded={}, current={}",
+                        id, loaded.getVersion(), current.getVersion());
+                installed[0] = current;
+            } else if (current != null && current.sameStateAs(loaded, System.currentTimeMillis())) {
+                installed[0] = current;
+            } else {
+                if (current != null) {
+                    log.info("[SeatMap] 재동기화 결과가 현재 맵과 달라 교체: concertId={}, version={} -> {}, epoch={}",
+                            id, current.getVersion(), loaded.getVersion(), loaded.getEpoch());
+                }
+                seatMaps.put(id, loaded);
+                snapshots.remove(id);
+                installed[0] = loaded;
+            }
+            return null; // 버퍼 제거 → 이후 이벤트는 교체된 맵에 바로 반영
+        });
+        return installed[0];
+    }
+
+    private Object loadLock(Long concertId) {
+        return loadLocks.computeIfAbsent(concertId, id -> new Object());
+    }
+
+    private SeatMapSnapshot encodeSnapshot(ConcertSeatMap seatMap) {
+        ConcertSeatMap.StateView state = seatMap.stateView(System.currentTimeMillis());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("concertId", seatMap.getConcertId());
+        body.put("epoch", state.epoch());
+        body.put("version", state.version());
+        body.put("full", true);
+        body.put("seatIds", seatMap.getSeatIds());
+        body.put("seatNumbers", seatMap.getSeatNumbers());
+        body.put("states", state.states());
+        body.put("heldUntil", state.heldUntil());
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(body));
+            String etag = "\"seatmap-" + seatMap.getConcertId() + "-" + state.epoch() + "-" + state.version() + "\"";
+            return new SeatMapSnapshot(seatMap.getConcertId(), state.epoch(), state.version(), etag, json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("좌석 맵 스냅샷 직렬화 실패: concertId=" + seatMap.getConcertId(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private ConcertSeatMap load(Long concertId) {
+        // 버전을 먼저 읽어야 그 이후 이벤트가 로딩 결과에 빠져도 증분 이벤트로 다시 반영됨
+        long version = redissonClient.getAtomicLong(SeatHoldEngine.versionKey(concertId)).get();
+        List<Seat> seats = seatRepository.findByConcertIdOrderBySeatNumberAsc(concertId);
+        // 로딩 시각 기반 epoch (같은 ms 에 다시 로딩해도 겹치지 않도록 단조 증가)
+        long epoch = epochClock.updateAndGet(prev -> Math.max(prev + 1, System.currentTimeMillis()));
+        ConcertSeatMap seatMap = ConcertSeatMap.of(concertId, seats, version, epoch);
+
+        Collection<ScoredEntry<String>> heldSeats = redissonClient
+                .<String>getScoredSortedSet(SeatHoldEngine.heldKey(concertId), StringCodec.INSTANCE)
+                .entryRange(System.currentTimeMillis(), false, Double.POSITIVE_INFINITY, true);
+
+        for (ScoredEntry<String> held : heldSeats) {
+            seatMap.markHeld(Long.parseLong(held.getValue()), held.getScore().longValue());
+        }
+
+        log.info("[SeatMap] 좌석 맵 로딩 완료: concertId={}, seats={}, held={}, version={}, epoch={}", concertId, seatMap.size(), heldSeats.size(), version, epoch);
+        return seatMap;
+    }
+}
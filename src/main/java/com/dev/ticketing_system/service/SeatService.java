@@ -6,16 +6,15 @@ import com.dev.ticketing_system.exception.SeatAlreadyTakenException;
 import com.dev.ticketing_system.repository.SeatRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -25,101 +24,139 @@ import java.util.stream.Collectors;
 public class SeatService {
 
     private final SeatRepository seatRepository;
-    private final RedissonClient redissonClient;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, SeatResponseDto> seatCacheRedisTemplate;
+    private final SeatHoldEngine seatHoldEngine;
+    private final SeatMapCache seatMapCache;
+    private final SingleFlightLoader singleFlightLoader;
 
-    private static final String LOCK_KEY = "seat:lock:";
-    private static final String CACHE_KEY_PREFIX = "seats:concert:";
+    private static final int MAX_SEATS_PER_HOLD = 4; // 일행 예매 최대 좌석 수
+    private static final Duration SEAT_CACHE_TTL = Duration.ofMinutes(10);
+    private static final Duration REBUILD_WAIT = Duration.ofSeconds(2);
 
-    @Transactional(readOnly = true)
-    public List<SeatResponseDto> getAvailableSeats(Long concertId) {
-        String cacheKey = CACHE_KEY_PREFIX + concertId;
-
-        try {
-            List<Object> cachedData = redisTemplate.opsForHash().values(cacheKey);
-            if (!cachedData.isEmpty()) {
-                return cachedData.stream()
-                        .map(obj -> (SeatResponseDto) obj)
-                        .sorted(Comparator.comparingInt(SeatResponseDto::getSeatNumber))
-                        .collect(Collectors.toList());
-            }
-        } catch (Exception e) {
-            log.warn("Redis 캐시 조회 실패: {}", e.getMessage());
-        }
+    // 좌석 캐시(seats:concert:{id}) 만료 시각 / 재구성 소요시간 (조기 갱신 판단용, 노드 로컬 추정치)
+    private final Map<Long, SeatCacheState> seatCacheStates = new ConcurrentHashMap<>();
 
-        List<Seat> seats = seatRepository.findByConcertIdOrderBySeatNumberAsc(concertId);
-        List<SeatResponseDto> seatDtos = seats.stream()
-                .map(SeatResponseDto::from)
-                .collect(Collectors.toList());
+    private record SeatCacheState(long expiresAt, long rebuildMillis) {
+    }
 
-        Map<String, SeatResponseDto> seatMap = seatDtos.stream()
-                .collect(Collectors.toMap(
-                        dto -> String.valueOf(dto.getId()),
-                        dto -> dto
-                ));
+    /**
+     * 좌석 목록 조회: 노드 로컬 좌석 맵에서 바로 응답 (Redis / DB 조회 없음)
+     */
+    public List<SeatResponseDto> getAvailableSeats(Long concertId) {
+        return seatMapCache.getSeatMap(concertId);
+    }
 
-        redisTemplate.opsForHash().putAll(cacheKey, seatMap);
-        redisTemplate.expire(cacheKey, Duration.ofMinutes(10));
+    public long getSeatMapVersion(Long concertId) {
+        return seatMapCache.getVersion(concertId);
+    }
 
-        return seatDtos;
+    public long getSeatMapEpoch(Long concertId) {
+        return seatMapCache.getEpoch(concertId);
     }
 
-    private void updateSeatLockStatusInCache(Long concertId, Long seatId, boolean locked) {
-        String cacheKey = CACHE_KEY_PREFIX + concertId;
-        String hashKey = String.valueOf(seatId);
+    public void occupySeat(Long seatId, Long concertId, String userId, String lockType) {
+        holdSeats(List.of(seatId), concertId, userId);
+    }
 
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(cacheKey))) {
-            SeatResponseDto seatDto = (SeatResponseDto) redisTemplate.opsForHash().get(cacheKey, hashKey);
+    /**
+     * 좌석 선점: 캐시가 살아있으면 Lua 스크립트 1회로 판매 여부 확인 + 점유자 기록 + 캐시 갱신
+     * 좌석 캐시(해시) 자체가 없을 때만 DB 에서 다시 채운 뒤 선점 시도
+     * 캐시는 있는데 좌석이 없으면(다른 공연 / 잘못된 ID) 재구성 없이 바로 거절 → 요청마다 공연 전체 재로딩 방지
+     * 여러 좌석(일행 예매)도 같은 스크립트 1회로 처리되며, 하나라도 실패하면 어떤 좌석도 선점되지 않음
+     */
+    public void holdSeats(List<Long> seatIds, Long concertId, String userId) {
+        List<Long> targetSeatIds = seatIds.stream().distinct().toList();
+        if (targetSeatIds.isEmpty() || targetSeatIds.size() > MAX_SEATS_PER_HOLD) {
+            throw new IllegalArgumentException("한 번에 선점할 수 있는 좌석은 1~" + MAX_SEATS_PER_HOLD + "석입니다.");
+        }
 
-            if (seatDto != null) {
-                seatDto.setLocked(locked);
-                redisTemplate.opsForHash().put(cacheKey, hashKey, seatDto);
-                log.info("[Cache Update] 좌석 락 변경: seatId={}, locked={}", seatId, locked);
-            }
+        SeatHoldEngine.HoldResult result = seatHoldEngine.holdAll(concertId, targetSeatIds, userId, true);
+
+        if (result == SeatHoldEngine.HoldResult.NOT_CACHED) {
+            refreshSeatCache(concertId);
+            result = seatHoldEngine.holdAll(concertId, targetSeatIds, userId, true);
+        } else {
+            refreshSeatCacheEarlyIfDue(concertId);
         }
-    }
 
-    public void occupySeat(Long seatId, Long concertId, String userId, String lockType) {
-        occupyWithRedisson(seatId, concertId, userId);
+        switch (result) {
+            case HELD -> log.info("[Seat Hold] 좌석 선점 완료: seatIds={}, userId={}", targetSeatIds, userId);
+            case SOLD -> throw new SeatAlreadyTakenException("이미 판매된 좌석입니다.");
+            case NOT_CACHED, UNKNOWN_SEAT -> throw new IllegalArgumentException("해당 콘서트의 좌석이 아닙니다.");
+            default -> throw new SeatAlreadyTakenException("이미 선택된 좌석입니다.");
+        }
     }
 
-    @Transactional(readOnly = true)
-    public void occupyWithRedisson(Long seatId, Long concertId, String userId) {
-        String key = LOCK_KEY + seatId;
-        RLock lock = redissonClient.getLock(key);
-        boolean isLocked = false;
+    /**
+     * 결제 취소 시 본인이 점유한 좌석만 해제
+     * @return 실제로 해제된 좌석 수
+     */
+    public int releaseSeats(List<Long> seatIds, Long concertId, String userId) {
+        return seatHoldEngine.release(concertId, seatIds, userId);
+    }
 
-        try {
-            isLocked = lock.tryLock(0, 5, TimeUnit.MINUTES);
-            if (!isLocked) {
-                throw new SeatAlreadyTakenException("이미 선택된 좌석입니다.");
-            }
+    /**
+     * 좌석 캐시 미스: 클러스터에서 1개 요청만 DB 로 재구성하고 나머지는 재구성이 끝나길 잠깐 기다림
+     */
+    private void refreshSeatCache(Long concertId) {
+        String cacheKey = SeatHoldEngine.cacheKey(concertId);
+        if (!singleFlightLoader.runExclusively(cacheKey, () -> rebuildSeatCache(concertId))) {
+            singleFlightLoader.await(() -> Boolean.TRUE.equals(seatCacheRedisTemplate.hasKey(cacheKey)), REBUILD_WAIT);
+        }
+    }
 
-            validateSeat(seatId, concertId);
-            redissonClient.getBucket(key + ":user").set(userId, 5, TimeUnit.MINUTES);
-            updateSeatLockStatusInCache(concertId, seatId, true);
+    /**
+     * 만료 전 확률적 조기 갱신 (XFetch) - 캐시가 통째로 사라지는 순간 선점 요청이 몰려 DB 를 치지 않도록
+     * 다른 노드가 이미 갱신했으면 만료 시각만 다시 읽고 재구성은 생략
+     */
+    private void refreshSeatCacheEarlyIfDue(Long concertId) {
+        String cacheKey = SeatHoldEngine.cacheKey(concertId);
+        SeatCacheState state = seatCacheStates.computeIfAbsent(concertId, id -> readSeatCacheState(cacheKey, 0L));
+        if (!SingleFlightLoader.shouldRefreshEarly(System.currentTimeMillis(), state.expiresAt(), state.rebuildMillis())) {
+            return;
+        }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException("서버 에러");
-        } catch (Exception e) {
-            if (isLocked && lock.isHeldByCurrentThread()) {
-                lock.unlock();
+        CompletableFuture.runAsync(() -> singleFlightLoader.runExclusively(cacheKey, () -> {
+            SeatCacheState latest = readSeatCacheState(cacheKey, state.rebuildMillis());
+            if (latest.expiresAt() - System.currentTimeMillis() > SEAT_CACHE_TTL.toMillis() / 2) {
+                seatCacheStates.put(concertId, latest); // 다른 노드가 방금 갱신함
+                return;
             }
-            throw e;
-        }
+            rebuildSeatCache(concertId);
+        })).exceptionally(e -> {
+            log.warn("[Seat Cache] 좌석 캐시 조기 갱신 실패: concertId={}, reason={}", concertId, e.getMessage());
+            return null;
+        });
     }
 
-    private void validateSeat(Long seatId, Long concertId) {
-        Seat seat = seatRepository.findById(seatId)
-                .orElseThrow(() -> new IllegalArgumentException("좌석 없음"));
+    private SeatCacheState readSeatCacheState(String cacheKey, long rebuildMillis) {
+        Long ttlMillis = seatCacheRedisTemplate.getExpire(cacheKey, TimeUnit.MILLISECONDS);
+        long remaining = ttlMillis != null && ttlMillis > 0 ? ttlMillis : 0L;
+        return new SeatCacheState(System.currentTimeMillis() + remaining, rebuildMillis);
+    }
 
-        if (!seat.getConcert().getId().equals(concertId)) {
-            throw new IllegalArgumentException("해당 콘서트의 좌석이 아닙니다.");
-        }
+    /**
+     * 선점 스크립트가 참조하는 좌석 캐시(seats:concert:{id}) 재구성
+     */
+    private void rebuildSeatCache(Long concertId) {
+        long startedAt = System.currentTimeMillis();
 
-        if (seat.getStatus() == Seat.SeatStatus.SOLD) {
-            throw new SeatAlreadyTakenException("이미 판매된 좌석입니다.");
+        List<Seat> seats = seatRepository.findByConcertIdOrderBySeatNumberAsc(concertId);
+        if (seats.isEmpty()) {
+            return;
         }
+
+        // 캐시가 판매 여부의 유일한 기준이므로 putAll 로 덮어쓰지 않고 SOLD 를 유지하며 병합
+        @SuppressWarnings("unchecked")
+        RedisSerializer<SeatResponseDto> valueSerializer = (RedisSerializer<SeatResponseDto>) seatCacheRedisTemplate.getHashValueSerializer();
+        Map<Long, byte[]> values = seats.stream()
+                .map(SeatResponseDto::from)
+                .collect(Collectors.toMap(SeatResponseDto::getId, valueSerializer::serialize));
+        int keptSold = seatHoldEngine.mergeSeatCache(concertId, values, SEAT_CACHE_TTL);
+
+        long finishedAt = System.currentTimeMillis();
+        seatCacheStates.put(concertId, new SeatCacheState(finishedAt + SEAT_CACHE_TTL.toMillis(), finishedAt - startedAt));
+        log.info("[Seat Cache] 좌석 캐시 재구성: concertId={}, seats={}, keptSold={}, {}ms",
+                concertId, values.size(), keptSold, finishedAt - startedAt);
     }
 }
@@ -0,0 +1,45 @@
+package com.dev.ticketing_system.service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * HMAC 마스터 secret 검증 / 용도별 키 파생 / 서명
+ * - 마스터 secret 은 저장소에 기본값을 두지 않음 → 비어 있거나 짧으면 기동 시점에 실패
+ * - 입장권 / 캡차는 같은 마스터 secret 을 쓰되 라벨이 다른 HMAC 파생 키로 서명 (한쪽 서명을 다른 쪽에 재사용 불가)
+ */
+final class SigningSecrets {
+
+    static final String HMAC_ALGORITHM = "HmacSHA256";
+    static final int MIN_SECRET_BYTES = 32;
+
+    private SigningSecrets() {
+    }
+
+    static void requireStrong(String property, String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException(property + " 가 설정되지 않았습니다. (환경변수 QUEUE_PASS_SECRET 로 주입)");
+        }
+        if (secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException(property + " 는 최소 " + MIN_SECRET_BYTES + " byte 이상이어야 합니다.");
+        }
+    }
+
+    // 용도별 키 = HMAC(secret, label)
+    static SecretKeySpec derive(String secret, String label) {
+        SecretKeySpec master = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        return new SecretKeySpec(hmac(master, label.getBytes(StandardCharsets.UTF_8)), HMAC_ALGORITHM);
+    }
+
+    static byte[] hmac(SecretKeySpec key, byte[] content) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(content);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 서명 실패", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.dev.ticketing_system.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 캐시 재구성 single-flight 도구
+ * - 같은 키의 재구성은 클러스터 전체에서 1개만 실행 (짧은 lease 의 Redis 락, 실행 노드가 죽어도 lease 후 해제)
+ * - 락을 못 잡은 쪽은 기다리지 않고 바로 false → 호출자가 기존(stale) 값으로 응답하거나 await 로 잠깐 대기
+ * - 확률적 조기 갱신(XFetch): 만료가 가까울수록, 재구성이 오래 걸릴수록 높은 확률로 미리 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SingleFlightLoader {
+
+    private static final String LOCK_PREFIX = "singleflight:";
+    private static final Duration LOCK_LEASE = Duration.ofSeconds(10);
+    private static final long POLL_INTERVAL_MS = 50;
+    private static final double EARLY_REFRESH_BETA = 1.0;
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * @return 이 노드가 실행했으면 true, 다른 곳에서 이미 실행 중이면 false
+     */
+    public boolean runExclusively(String key, Runnable task) {
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + key);
+        try {
+            if (!lock.tryLock(0, LOCK_LEASE.toMillis(), TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 다른 노드의 재구성이 끝날 때까지 대기
+     * @return maxWait 안에 ready 가 true 가 되면 true
+     */
+    public boolean await(BooleanSupplier ready, Duration maxWait) {
+        long deadline = System.currentTimeMillis() + maxWait.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            if (ready.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return ready.getAsBoolean();
+    }
+
+    /**
+     * XFetch: now - 재구성 소요시간 * beta * ln(U) >= 만료 시각 이면 갱신 (ln(U) < 0 이므로 만료 전에 확률적으로 true)
+     */
+    public static boolean shouldRefreshEarly(long nowMillis, long expiresAtMillis, long rebuildMillis) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        return nowMillis - Math.max(1, rebuildMillis) * EARLY_REFRESH_BETA * Math.log(random) >= expiresAtMillis;
+    }
+}
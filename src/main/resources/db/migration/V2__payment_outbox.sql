@@ -0,0 +1,9 @@
+CREATE TABLE payment_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    topic VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255),
+    payload VARBINARY(2048) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    sent_at DATETIME(6) NULL,
+    INDEX idx_payment_outbox_unsent (sent_at, id)
+);
@@ -0,0 +1,87 @@
+package com.dev.ticketing_system.config;
+
+import com.dev.ticketing_system.dto.PaymentEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PaymentEventSerializerTest {
+
+    private final PaymentEventSerializer serializer = new PaymentEventSerializer();
+    private final PaymentEventDeserializer deserializer = new PaymentEventDeserializer();
+
+    @Test
+    @DisplayName("바이너리 포맷 직렬화 후 역직렬화 시 모든 필드 유지")
+    void roundTrip() {
+        // Given
+        PaymentEvent event = PaymentEvent.builder()
+                .concertId(7L)
+                .seatIds(List.of(11L, 12L))
+                .userId("kakao:유저1")
+                .amount(200000)
+                .idempotencyKey("key123")
+                .createdAt(1700000000000L)
+                .build();
+
+        // When
+        byte[] data = serializer.serialize("payment-completed", event);
+        PaymentEvent decoded = deserializer.deserialize("payment-completed", data);
+
+        // Then
+        assertThat(data[0]).isEqualTo(PaymentEventSerializer.SCHEMA_V1);
+        assertThat(decoded.getConcertId()).isEqualTo(7L);
+        assertThat(decoded.getSeatIds()).containsExactly(11L, 12L);
+        assertThat(decoded.getUserId()).isEqualTo("kakao:유저1");
+        assertThat(decoded.getAmount()).isEqualTo(200000);
+        assertThat(decoded.getIdempotencyKey()).isEqualTo("key123");
+        assertThat(decoded.getCreatedAt()).isEqualTo(1700000000000L);
+    }
+
+    @Test
+    @DisplayName("구버전 문자열 메시지도 해석 (userId 의 ':' 포함)")
+    void decodeLegacy() {
+        // When
+        PaymentEvent decoded = deserializer.deserialize("payment-completed",
+                "1,2:kakao:1234".getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertThat(decoded.getConcertId()).isNull();
+        assertThat(decoded.getSeatIds()).containsExactly(1L, 2L);
+        assertThat(decoded.getUserId()).isEqualTo("kakao:1234");
+    }
+
+    @Test
+    @DisplayName("잘린 바이너리 / 잘못된 문자열 메시지는 IllegalArgumentException")
+    void rejectMalformed() {
+        byte[] data = serializer.serialize("payment-completed", PaymentEvent.builder()
+                .seatIds(List.of(1L)).userId("user1").build());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> deserializer.deserialize("payment-completed", Arrays.copyOf(data, data.length - 3)));
+        assertThrows(IllegalArgumentException.class,
+                () -> deserializer.deserialize("payment-completed", "invalid-payload".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("길이 필드(2 byte)를 넘는 userId / 멱등키는 잘못된 프레임 대신 IllegalArgumentException")
+    void rejectOversizeFields() {
+        String oversize = "a".repeat(PaymentEventSerializer.MAX_FIELD_LENGTH + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> serializer.serialize("payment-completed", PaymentEvent.builder()
+                .seatIds(List.of(1L)).userId(oversize).build()));
+        assertThrows(IllegalArgumentException.class, () -> serializer.serialize("payment-completed", PaymentEvent.builder()
+                .seatIds(List.of(1L)).userId("user1").idempotencyKey(oversize).build()));
+
+        // 경계값은 그대로 왕복
+        String maxKey = "k".repeat(PaymentEventSerializer.MAX_FIELD_LENGTH);
+        byte[] data = serializer.serialize("payment-completed", PaymentEvent.builder()
+                .seatIds(List.of(1L)).userId("user1").idempotencyKey(maxKey).build());
+        assertThat(deserializer.deserialize("payment-completed", data).getIdempotencyKey()).isEqualTo(maxKey);
+    }
+}
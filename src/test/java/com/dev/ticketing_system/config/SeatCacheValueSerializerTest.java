@@ -0,0 +1,53 @@
+package com.dev.ticketing_system.config;
+
+import com.dev.ticketing_system.dto.SeatResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SeatCacheValueSerializerTest {
+
+    private final SeatCacheValueSerializer serializer = new SeatCacheValueSerializer();
+
+    @Test
+    @DisplayName("고정 길이 바이너리 직렬화 후 역직렬화 시 모든 필드 유지 (Lua 스크립트가 읽는 바이트 위치 포함)")
+    void roundTrip() {
+        // Given
+        SeatResponseDto seat = SeatResponseDto.builder()
+                .id(123456789L)
+                .seatNumber(42)
+                .status("SOLD")
+                .isLocked(true)
+                .build();
+
+        // When
+        byte[] data = serializer.serialize(seat);
+        SeatResponseDto decoded = serializer.deserialize(data);
+
+        // Then
+        assertThat(data).hasSize(SeatCacheValueSerializer.SIZE_V1);
+        assertThat(data[0]).isEqualTo(SeatCacheValueSerializer.SCHEMA_V1);
+        assertThat(data[1]).isEqualTo((byte) 'S'); // status
+        assertThat(data[2]).isEqualTo((byte) 1);   // locked
+        assertThat(decoded.getId()).isEqualTo(123456789L);
+        assertThat(decoded.getSeatNumber()).isEqualTo(42);
+        assertThat(decoded.getStatus()).isEqualTo("SOLD");
+        assertThat(decoded.isLocked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전 / 잘린 값은 SerializationException")
+    void rejectMalformed() {
+        byte[] data = serializer.serialize(SeatResponseDto.builder().id(1L).seatNumber(1).status("AVAILABLE").build());
+        byte[] unknownVersion = data.clone();
+        unknownVersion[0] = 9;
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(unknownVersion));
+        assertThrows(SerializationException.class, () -> serializer.deserialize(Arrays.copyOf(data, data.length - 1)));
+    }
+}
@@ -0,0 +1,64 @@
+package com.dev.ticketing_system.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoLevelCacheTest {
+
+    private final ConcurrentMapCache remote = new ConcurrentMapCache("concerts");
+    private final List<String> published = new ArrayList<>();
+    private final TwoLevelCache cache = new TwoLevelCache("concerts", Caffeine.newBuilder().maximumSize(100).build(),
+            new GenericJackson2JsonRedisSerializer(), remote, (name, key) -> published.add(name + ":" + key));
+
+    @Test
+    @DisplayName("L2 적중 값은 L1 에 채워져 이후 조회는 L2 없이 응답")
+    void fillsLocalFromRemote() {
+        // Given
+        remote.put("all", "v1");
+
+        // When
+        assertThat(cache.get("all").get()).isEqualTo("v1");
+        remote.evict("all");
+
+        // Then
+        assertThat(cache.get("all").get()).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("변경 시 무효화 발행, 다른 노드 알림 수신 시 L1 만 제거되어 L2 최신 값 조회")
+    void invalidatesLocalOnRemoteChange() {
+        // Given
+        cache.put("all", "v1");
+        remote.put("all", "v2"); // 다른 노드가 L2 를 갱신한 상황
+
+        // When
+        cache.invalidateLocal("all");
+
+        // Then
+        assertThat(published).containsExactly("concerts:all");
+        assertThat(cache.get("all").get()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("L1 적중 시에도 조회마다 사본을 반환해 호출자의 수정이 캐시에 반영되지 않음")
+    @SuppressWarnings("unchecked")
+    void returnsCopyFromLocal() {
+        // Given
+        cache.put("all", new ArrayList<>(List.of("a")));
+
+        // When
+        List<String> first = (List<String>) cache.get("all").get();
+        first.add("b");
+
+        // Then
+        assertThat((List<String>) cache.get("all").get()).containsExactly("a");
+    }
+}
@@ -1,11 +1,16 @@
 package com.dev.ticketing_system.consumer;
 
 import com.dev.ticketing_system.config.KafkaConsumerConfig;
+import com.dev.ticketing_system.config.PaymentEventDeserializer;
+import com.dev.ticketing_system.config.PaymentEventSerializer;
+import com.dev.ticketing_system.dto.PaymentEvent;
 import com.dev.ticketing_system.service.PaymentConfirmService;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.junit.jupiter.api.AfterEach;
@@ -20,19 +25,23 @@ import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.test.EmbeddedKafkaBroker;
 import org.springframework.kafka.test.context.EmbeddedKafka;
 import org.springframework.kafka.test.utils.KafkaTestUtils;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -56,21 +65,24 @@ class PaymentConsumerDlqIntegrationTest {
     static class TestKafkaConfig {
 
         @Bean
-        ProducerFactory<String, String> producerFactory(EmbeddedKafkaBroker embeddedKafkaBroker) {
+        ProducerFactory<String, PaymentEvent> producerFactory(EmbeddedKafkaBroker embeddedKafkaBroker) {
             Map<String, Object> props = KafkaTestUtils.producerProps(embeddedKafkaBroker);
-            return new DefaultKafkaProducerFactory<>(props, new StringSerializer(), new StringSerializer());
+            props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+            props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, PaymentEventSerializer.class);
+            return new DefaultKafkaProducerFactory<>(props);
         }
 
         @Bean
-        KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory) {
+        KafkaTemplate<String, PaymentEvent> kafkaTemplate(ProducerFactory<String, PaymentEvent> producerFactory) {
             return new KafkaTemplate<>(producerFactory);
         }
 
         @Bean
-        ConsumerFactory<String, String> consumerFactory(EmbeddedKafkaBroker embeddedKafkaBroker) {
+        ConsumerFactory<String, PaymentEvent> consumerFactory(EmbeddedKafkaBroker embeddedKafkaBroker) {
             Map<String, Object> props = KafkaTestUtils.consumerProps("ticketing-group", "false", embeddedKafkaBroker);
             props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-            return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new StringDeserializer());
+            return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+                    new ErrorHandlingDeserializer<>(new PaymentEventDeserializer()));
         }
 
         @Bean
@@ -83,12 +95,16 @@ class PaymentConsumerDlqIntegrationTest {
     private EmbeddedKafkaBroker embeddedKafkaBroker;
 
     @org.springframework.beans.factory.annotation.Autowired
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaTemplate<String, PaymentEvent> kafkaTemplate;
 
     @org.springframework.beans.factory.annotation.Autowired
     private PaymentConfirmService paymentConfirmService;
 
-    private Consumer<String, String> dltConsumer;
+    private Consumer<String, byte[]> dltConsumer;
+
+    // 롤아웃 기간 동안 구버전 프로듀서가 보내는 문자열 메시지 재현용
+    private DefaultKafkaProducerFactory<String, String> legacyProducerFactory;
+    private KafkaTemplate<String, String> legacyKafkaTemplate;
 
     @BeforeEach
     void setUp() {
@@ -96,9 +112,13 @@ class PaymentConsumerDlqIntegrationTest {
 
         Map<String, Object> props = KafkaTestUtils.consumerProps("payment-dlt-verifier-" + UUID.randomUUID(), "false", embeddedKafkaBroker);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
-        dltConsumer = new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new StringDeserializer())
+        dltConsumer = new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new ByteArrayDeserializer())
                 .createConsumer();
         embeddedKafkaBroker.consumeFromAnEmbeddedTopic(dltConsumer, PAYMENT_DLT_TOPIC);
+
+        legacyProducerFactory = new DefaultKafkaProducerFactory<>(KafkaTestUtils.producerProps(embeddedKafkaBroker),
+                new StringSerializer(), new StringSerializer());
+        legacyKafkaTemplate = new KafkaTemplate<>(legacyProducerFactory);
     }
 
     @AfterEach
@@ -106,50 +126,81 @@ class PaymentConsumerDlqIntegrationTest {
         if (dltConsumer != null) {
             dltConsumer.close();
         }
+        if (legacyProducerFactory != null) {
+            legacyProducerFactory.destroy();
+        }
+    }
+
+    @Test
+    void binaryPaymentEventIsConfirmedInBatch() throws Exception {
+        PaymentEvent event = PaymentEvent.builder()
+                .concertId(1L)
+                .seatIds(List.of(2L, 3L))
+                .userId("kakao:1234") // 구분자(':')가 포함된 userId
+                .amount(200000)
+                .idempotencyKey("key-binary")
+                .createdAt(System.currentTimeMillis())
+                .build();
+
+        kafkaTemplate.send(PAYMENT_TOPIC, "2", event).get();
+
+        verify(paymentConfirmService, timeout(10000)).confirmPayments(List.of(2L, 3L));
     }
 
     @Test
     void failedPaymentMessagesArePublishedToDltAfterRetries() throws Exception {
+        doThrow(new RuntimeException("batch failure"))
+                .when(paymentConfirmService)
+                .confirmPayments(anyList());
         doThrow(new RuntimeException("consumer failure"))
                 .when(paymentConfirmService)
                 .confirmPayment(1L, "user1");
 
-        kafkaTemplate.send(PAYMENT_TOPIC, "1:user1").get();
+        legacyKafkaTemplate.send(PAYMENT_TOPIC, "1:user1").get();
 
         verify(paymentConfirmService, timeout(10000).times(3)).confirmPayment(1L, "user1");
 
-        ConsumerRecord<String, String> dltRecord = awaitDltRecord("1:user1", Duration.ofSeconds(10));
+        ConsumerRecord<String, byte[]> dltRecord = awaitDltRecord("seat 1 of user1", payload -> {
+            PaymentEvent event = PaymentEventDeserializer.decode(payload);
+            return event.getSeatIds().equals(List.of(1L)) && "user1".equals(event.getUserId());
+        }, Duration.ofSeconds(10));
 
-        assertThat(dltRecord.value()).isEqualTo("1:user1");
+        assertThat(dltRecord.value()[0]).isEqualTo(PaymentEventSerializer.SCHEMA_V1); // DLT 에는 바이너리 포맷으로 재발행
         assertThat(new String(dltRecord.headers().lastHeader("kafka_dlt-original-topic").value()))
                 .isEqualTo(PAYMENT_TOPIC);
     }
 
     @Test
     void invalidMessageMovesDirectlyToDltWithoutRetry() throws Exception {
-        kafkaTemplate.send(PAYMENT_TOPIC, "invalid-payload").get();
+        legacyKafkaTemplate.send(PAYMENT_TOPIC, "invalid-payload").get();
 
-        ConsumerRecord<String, String> dltRecord = awaitDltRecord("invalid-payload", Duration.ofSeconds(10));
+        ConsumerRecord<String, byte[]> dltRecord = awaitDltRecord("invalid-payload",
+                payload -> "invalid-payload".equals(new String(payload, StandardCharsets.UTF_8)), Duration.ofSeconds(10));
 
         verify(paymentConfirmService, timeout(2000).times(0)).confirmPayment(org.mockito.ArgumentMatchers.anyLong(), org.mockito.ArgumentMatchers.anyString());
-        assertThat(dltRecord.value()).isEqualTo("invalid-payload");
+        verify(paymentConfirmService, times(0)).confirmPayments(anyList());
+        assertThat(new String(dltRecord.value(), StandardCharsets.UTF_8)).isEqualTo("invalid-payload"); // 원본 바이트 그대로
     }
 
-    private ConsumerRecord<String, String> awaitDltRecord(String expectedPayload, Duration timeout) {
+    private ConsumerRecord<String, byte[]> awaitDltRecord(String expected, Predicate<byte[]> matcher, Duration timeout) {
         long deadline = System.nanoTime() + timeout.toNanos();
         List<String> seenPayloads = new ArrayList<>();
 
         while (System.nanoTime() < deadline) {
-            ConsumerRecords<String, String> records = dltConsumer.poll(Duration.ofMillis(250));
-
-            for (ConsumerRecord<String, String> record : records) {
-                seenPayloads.add(record.value());
-                if (expectedPayload.equals(record.value())) {
-                    return record;
+            ConsumerRecords<String, byte[]> records = dltConsumer.poll(Duration.ofMillis(250));
+
+            for (ConsumerRecord<String, byte[]> record : records) {
+                seenPayloads.add(new String(record.value(), StandardCharsets.UTF_8));
+                try {
+                    if (matcher.test(record.value())) {
+                        return record;
+                    }
+                } catch (IllegalArgumentException ignored) {
+                    // 다른 테스트가 남긴 해석 불가 payload
                 }
             }
         }
 
-        throw new AssertionError("Expected DLT payload not found. expected=" + expectedPayload + ", seen=" + seenPayloads);
+        throw new AssertionError("Expected DLT payload not found. expected=" + expected + ", seen=" + seenPayloads);
     }
 }
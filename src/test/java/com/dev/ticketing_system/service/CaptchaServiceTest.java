@@ -0,0 +1,82 @@
+package com.dev.ticketing_system.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaptchaServiceTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RScript rScript;
+
+    private CaptchaService captchaService;
+
+    @BeforeEach
+    void setUp() {
+        captchaService = new CaptchaService(redissonClient);
+        ReflectionTestUtils.setField(captchaService, "secret", "test-secret-0123456789abcdefghijklmn");
+        ReflectionTestUtils.setField(captchaService, "poolSize", 10);
+        captchaService.init();
+    }
+
+    @Test
+    @DisplayName("정답이면 nonce 를 1회만 소비하고 통과, 같은 챌린지 재사용은 거절")
+    void validateCaptcha_ConsumesNonceOnce() {
+        // Given
+        CaptchaService.Challenge challenge = captchaService.generateCaptcha("session-1");
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(rScript);
+        when(rScript.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                anyString(), anyString()))
+                .thenReturn(1L, 0L);
+
+        // When & Then
+        assertTrue(captchaService.validateCaptcha("session-1", challenge.token(), challenge.captcha().toLowerCase()));
+        assertFalse(captchaService.validateCaptcha("session-1", challenge.token(), challenge.captcha()));
+    }
+
+    @Test
+    @DisplayName("오답 / 다른 세션 / 변조된 토큰은 Redis 조회 없이 거절")
+    void validateCaptcha_RejectsLocallyWithoutRedis() {
+        // Given
+        CaptchaService.Challenge challenge = captchaService.generateCaptcha("session-1");
+
+        // When & Then
+        assertFalse(captchaService.validateCaptcha("session-1", challenge.token(), "WRONG1"));
+        assertFalse(captchaService.validateCaptcha("session-2", challenge.token(), challenge.captcha()));
+        assertFalse(captchaService.validateCaptcha("session-1", challenge.token() + "A", challenge.captcha()));
+        assertFalse(captchaService.validateCaptcha("session-1", "garbage", challenge.captcha()));
+        verifyNoInteractions(redissonClient);
+    }
+
+    @Test
+    @DisplayName("서명 secret 이 없거나 짧으면 기동 시점에 실패")
+    void init_RejectsMissingOrWeakSecret() {
+        CaptchaService missing = new CaptchaService(redissonClient);
+        ReflectionTestUtils.setField(missing, "secret", "");
+        assertThrows(IllegalStateException.class, missing::init);
+
+        CaptchaService weak = new CaptchaService(redissonClient);
+        ReflectionTestUtils.setField(weak, "secret", "local-dev-secret");
+        assertThrows(IllegalStateException.class, weak::init);
+    }
+}
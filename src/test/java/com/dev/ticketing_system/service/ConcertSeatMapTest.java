@@ -0,0 +1,97 @@
+package com.dev.ticketing_system.service;
+
+import com.dev.ticketing_system.dto.SeatResponseDto;
+import com.dev.ticketing_system.entity.Seat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConcertSeatMapTest {
+
+    @Test
+    @DisplayName("선점 / 해제 / 판매 이벤트가 좌석 상태에 반영되는지 테스트")
+    void applyEvents() {
+        // Given
+        ConcertSeatMap seatMap = ConcertSeatMap.of(1L, List.of(
+                seat(10L, 1, Seat.SeatStatus.AVAILABLE),
+                seat(11L, 2, Seat.SeatStatus.AVAILABLE),
+                seat(12L, 3, Seat.SeatStatus.SOLD)
+        ));
+        long future = System.currentTimeMillis() + 60_000;
+
+        // When
+        seatMap.markHeld(10L, future);
+        seatMap.markHeld(11L, future);
+        seatMap.markReleased(11L);
+
+        // Then
+        List<SeatResponseDto> seats = seatMap.toSeatResponses();
+        assertEquals("OCCUPIED", seats.get(0).getDisplayStatus());
+        assertEquals("AVAILABLE", seats.get(1).getDisplayStatus());
+        assertEquals("SOLD", seats.get(2).getDisplayStatus());
+
+        seatMap.markSold(10L);
+        assertEquals("SOLD", seatMap.toSeatResponses().get(0).getDisplayStatus());
+    }
+
+    @Test
+    @DisplayName("선점 만료 시각이 지나면 별도 이벤트 없이 해제되는지 테스트")
+    void heldSeatExpires() {
+        // Given
+        ConcertSeatMap seatMap = ConcertSeatMap.of(1L, List.of(seat(10L, 1, Seat.SeatStatus.AVAILABLE)));
+
+        // When
+        seatMap.markHeld(10L, System.currentTimeMillis() - 1);
+
+        // Then
+        assertFalse(seatMap.isHeld(0, System.currentTimeMillis()));
+        assertEquals("AVAILABLE", seatMap.toSeatResponses().get(0).getDisplayStatus());
+    }
+
+    @Test
+    @DisplayName("since 이후 변경분은 좌석별 마지막 상태만, 버전이 건너뛰면 증분 대신 전체 스냅샷 필요")
+    void changesSince() {
+        // Given: 버전 5 시점에 로딩
+        ConcertSeatMap seatMap = ConcertSeatMap.of(1L, List.of(
+                seat(10L, 1, Seat.SeatStatus.AVAILABLE),
+                seat(11L, 2, Seat.SeatStatus.AVAILABLE)
+        ), 5L);
+        long future = System.currentTimeMillis() + 60_000;
+
+        // When
+        seatMap.apply(5L, 10L, ConcertSeatMap.STATE_HELD, future); // 로딩 전 이벤트 → 무시
+        seatMap.apply(6L, 10L, ConcertSeatMap.STATE_HELD, future);
+        seatMap.apply(7L, 11L, ConcertSeatMap.STATE_HELD, future);
+        seatMap.apply(8L, 10L, ConcertSeatMap.STATE_SOLD, 0L);
+
+        // Then
+        ConcertSeatMap.Changes changes = seatMap.changesSince(5L);
+        assertEquals(8L, changes.version());
+        assertEquals(List.of(
+                new ConcertSeatMap.SeatChange(11L, ConcertSeatMap.STATE_HELD, future),
+                new ConcertSeatMap.SeatChange(10L, ConcertSeatMap.STATE_SOLD, 0L)
+        ), changes.changes());
+        assertTrue(seatMap.changesSince(8L).changes().isEmpty());
+        assertNull(seatMap.changesSince(4L));
+        assertEquals("SH", seatMap.stateView(System.currentTimeMillis()).states());
+
+        // When: 버전 9 유실
+        seatMap.apply(10L, 11L, ConcertSeatMap.STATE_AVAILABLE, 0L);
+
+        // Then
+        assertNull(seatMap.changesSince(8L));
+        assertEquals(1, seatMap.changesSince(9L).changes().size());
+    }
+
+    private Seat seat(Long id, int seatNumber, Seat.SeatStatus status) {
+        Seat seat = mock(Seat.class);
+        when(seat.getId()).thenReturn(id);
+        when(seat.getSeatNumber()).thenReturn(seatNumber);
+        when(seat.getStatus()).thenReturn(status);
+        return seat;
+    }
+}
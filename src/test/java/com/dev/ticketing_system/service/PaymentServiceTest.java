@@ -1,8 +1,7 @@
 package com.dev.ticketing_system.service;
 
-import com.dev.ticketing_system.entity.Seat;
+import com.dev.ticketing_system.dto.PaymentEvent;
 import com.dev.ticketing_system.exception.SeatAlreadyTakenException;
-import com.dev.ticketing_system.repository.SeatRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,11 +9,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RBucket;
-import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Optional;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -28,22 +27,22 @@ class PaymentServiceTest {
     private PaymentService paymentService;
 
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private PaymentOutboxService paymentOutboxService;
 
     @Mock
     private RedissonClient redissonClient;
 
     @Mock
-    private SeatRepository seatRepository;
+    private SeatHoldEngine seatHoldEngine;
 
     @Mock
-    private RBucket<String> rBucket;
+    private QueueService queueService;
 
     @Mock
-    private RLock rLock;
+    private RBucket<String> rBucket;
 
     @Test
-    @DisplayName("결제 검증 및 Kafka 전송 성공 테스트")
+    @DisplayName("결제 검증 및 아웃박스 기록 성공 테스트")
     @SuppressWarnings("unchecked")
     void validateAndPay_Success() {
         // Given
@@ -53,22 +52,20 @@ class PaymentServiceTest {
 
         when(redissonClient.getBucket(contains("idempotency:"))).thenReturn((RBucket) rBucket);
         when(rBucket.isExists()).thenReturn(false);
-
-        when(redissonClient.getLock(anyString())).thenReturn(rLock);
-        when(rLock.isLocked()).thenReturn(true);
-        when(redissonClient.getBucket(contains(":user"))).thenReturn((RBucket) rBucket);
-        when(rBucket.get()).thenReturn(userId);
-
-        Seat seat = mock(Seat.class);
-        when(seatRepository.findById(seatId)).thenReturn(Optional.of(seat));
-        when(seat.getStatus()).thenReturn(Seat.SeatStatus.AVAILABLE);
+        when(seatHoldEngine.checkOwner(10L, List.of(seatId), userId)).thenReturn(SeatHoldEngine.OwnerCheck.OWNER);
 
         // When
-        paymentService.validateAndPay(seatId, userId, idempotencyKey);
+        paymentService.validateAndPay(10L, List.of(seatId), userId, idempotencyKey);
 
         // Then
-        verify(kafkaTemplate).send(eq("payment-completed"), anyString());
+        verify(paymentOutboxService).append(eq("payment-completed"), eq("10"), argThat(event -> // 공연 ID 키로 파티셔닝
+                event.getConcertId() == 10L
+                        && event.getSeatIds().equals(List.of(seatId))
+                        && userId.equals(event.getUserId())
+                        && event.getAmount() == PaymentService.TICKET_PRICE
+                        && idempotencyKey.equals(event.getIdempotencyKey())));
         verify(rBucket).set(eq("COMPLETED"), anyLong(), any(TimeUnit.class));
+        verify(queueService).removeActive(10L, userId); // 결제 완료 → 입장 자리 반납
     }
 
     @Test
@@ -78,17 +75,45 @@ class PaymentServiceTest {
         // Given
         Long seatId = 1L;
         String userId = "user1";
-        String ownerId = "otherUser";
 
         when(redissonClient.getBucket(contains("idempotency:"))).thenReturn((RBucket) rBucket);
-        when(redissonClient.getLock(anyString())).thenReturn(rLock);
-        when(rLock.isLocked()).thenReturn(true);
-        when(redissonClient.getBucket(contains(":user"))).thenReturn((RBucket) rBucket);
-        when(rBucket.get()).thenReturn(ownerId);
+        when(seatHoldEngine.checkOwner(10L, List.of(seatId), userId)).thenReturn(SeatHoldEngine.OwnerCheck.OTHER_OWNER);
 
         // When & Then
         assertThrows(SeatAlreadyTakenException.class, () -> 
-            paymentService.validateAndPay(seatId, userId, "key123")
+            paymentService.validateAndPay(10L, List.of(seatId), userId, "key123")
         );
+        verify(paymentOutboxService, never()).append(anyString(), anyString(), any(PaymentEvent.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에만 COMPLETED, 롤백 시 멱등키 삭제")
+    @SuppressWarnings("unchecked")
+    void validateAndPay_IdempotencyFollowsTransactionOutcome() {
+        // Given
+        Long seatId = 1L;
+        String userId = "user1";
+
+        when(redissonClient.getBucket(contains("idempotency:"))).thenReturn((RBucket) rBucket);
+        when(rBucket.isExists()).thenReturn(false);
+        when(seatHoldEngine.checkOwner(10L, List.of(seatId), userId)).thenReturn(SeatHoldEngine.OwnerCheck.OWNER);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            paymentService.validateAndPay(10L, List.of(seatId), userId, "key123");
+
+            // Then - 커밋 전에는 COMPLETED 를 쓰지 않음
+            verify(rBucket, never()).set(eq("COMPLETED"), anyLong(), any(TimeUnit.class));
+
+            // 커밋 시점 실패 → 롤백
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            verify(rBucket).delete();
+            verify(rBucket, never()).set(eq("COMPLETED"), anyLong(), any(TimeUnit.class));
+            verify(queueService, never()).removeActive(anyLong(), anyString()); // 롤백 시 입장 자리 유지
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.dev.ticketing_system.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class QueuePassServiceTest {
+
+    private RedissonClient redissonClient;
+    private QueuePassService queuePassService;
+
+    @BeforeEach
+    void setUp() {
+        redissonClient = mock(RedissonClient.class);
+        queuePassService = new QueuePassService(redissonClient);
+        ReflectionTestUtils.setField(queuePassService, "secret", "test-secret-0123456789abcdefghijklmn");
+    }
+
+    @Test
+    @DisplayName("발급한 입장권은 Redis 없이 검증되고, 다른 공연 / 다른 유저 / 변조된 토큰은 거절")
+    void verify_ChecksSignatureConcertAndUser() {
+        // Given
+        String token = queuePassService.issue(1L, "user:1", System.currentTimeMillis() + 60000);
+
+        // When
+        QueuePassService.Pass pass = queuePassService.verify(token, 1L, "user:1");
+
+        // Then
+        assertNotNull(pass);
+        assertEquals("user:1", pass.userId());
+        assertNull(queuePassService.verify(token, null, "user:1")); // 공연 ID 필수
+        assertNull(queuePassService.verify(token, 2L, "user:1"));
+        assertNull(queuePassService.verify(token, 1L, "user:2"));
+        assertNull(queuePassService.verify(token + "A", 1L, "user:1"));
+        assertNull(queuePassService.verify("garbage", 1L, "user:1"));
+        verifyNoInteractions(redissonClient);
+    }
+
+    @Test
+    @DisplayName("만료되었거나 폐기된 입장권은 거절")
+    void verify_RejectsExpiredAndRevoked() {
+        // Given
+        String expired = queuePassService.issue(1L, "user1", System.currentTimeMillis() - 1);
+        String token = queuePassService.issue(1L, "user1", System.currentTimeMillis() + 60000);
+        QueuePassService.Pass pass = queuePassService.verify(token, 1L, "user1");
+
+        // When: 발급 시각 이후 폐기 이벤트 수신
+        queuePassService.applyRevocation(pass.issuedAt() + "\n1:user1");
+
+        // Then
+        assertNull(queuePassService.verify(expired, 1L, "user1"));
+        assertNull(queuePassService.verify(token, 1L, "user1"));
+    }
+}
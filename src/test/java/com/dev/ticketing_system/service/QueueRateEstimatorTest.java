@@ -0,0 +1,80 @@
+package com.dev.ticketing_system.service;
+
+import com.dev.ticketing_system.config.QueueAdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class QueueRateEstimatorTest {
+
+    private QueueAdmissionProperties properties;
+    private QueueRateEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new QueueAdmissionProperties();
+        properties.setDefaultRate(100.0);
+        properties.setMaxActive(1000);
+        properties.setTargetUtilization(0.8);
+
+        estimator = new QueueRateEstimator(mock(RedissonClient.class), properties, new SimpleMeterRegistry());
+        estimator.init();
+    }
+
+    @Test
+    @DisplayName("좌석 선택/결제 인원이 최대치를 넘으면 입장 속도 감소, 여유가 생기면 상한까지 회복")
+    void targetRate_FollowsActiveUtilization() {
+        // Given: 처음에는 설정값(상한)으로 시작
+        assertEquals(100.0, estimator.targetRate(1L));
+
+        // When: active 가 max-active 초과
+        estimator.recordAdmission(1L, 100, 1200, 1000);
+
+        // Then
+        assertEquals(70.0, estimator.targetRate(1L), 0.001);
+
+        // When: active 가 목표 사용률 이하로 내려감
+        estimator.recordAdmission(1L, 70, 500, 1000);
+        estimator.recordAdmission(1L, 80, 500, 1000);
+        estimator.recordAdmission(1L, 90, 500, 1000);
+        estimator.recordAdmission(1L, 100, 500, 1000);
+
+        // Then: 상한을 넘지 않음
+        assertEquals(100.0, estimator.targetRate(1L), 0.001);
+    }
+
+    @Test
+    @DisplayName("active 가 가득 찬 동안 예상 대기 시간용 속도는 실제 이탈 속도를 따라감")
+    void admissionRate_FollowsSlowedDrain() {
+        // Given: active 900 (목표 사용률 80% 초과) 에서 초당 50명씩 빠져나가고 그만큼 입장
+        estimator.recordAdmission(1L, 0, 900, 1000);
+        for (int i = 0; i < 20; i++) {
+            estimator.recordAdmission(1L, 50, 900, 1000);
+        }
+        assertEquals(50.0, estimator.admissionRate(1L), 1.0);
+
+        // When: 결제 / 이탈이 초당 10명으로 느려짐
+        for (int i = 0; i < 20; i++) {
+            estimator.recordAdmission(1L, 10, 900, 1000);
+        }
+
+        // Then: 목표 입장 속도가 아닌 실제 이탈 속도로 수렴
+        assertEquals(10.0, estimator.admissionRate(1L), 1.0);
+    }
+
+    @Test
+    @DisplayName("active 에 여유가 있으면 목표 입장 속도로 예상")
+    void admissionRate_UsesTargetRateWithHeadroom() {
+        // When
+        estimator.recordAdmission(1L, 0, 100, 1000);
+        estimator.recordAdmission(1L, 100, 150, 1000); // 50명 이탈, active 15%
+
+        // Then
+        assertEquals(100.0, estimator.admissionRate(1L), 0.001);
+    }
+}
@@ -7,12 +7,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RBucket;
 import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.time.Duration;
-import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,7 +35,11 @@ class QueueServiceTest {
     private RScoredSortedSet<String> scoredSortedSet;
 
     @Mock
-    private RBucket<Object> rBucket;
+    private RScript rScript;
+
+
+    @Mock
+    private QueueRateEstimator rateEstimator;
 
     @Test
     @DisplayName("대기열 등록 테스트")
@@ -41,18 +48,21 @@ class QueueServiceTest {
         // Given
         Long concertId = 1L;
         String userId = "user1";
-        String key = "concert:queue:" + concertId;
+        String key = "concert:queue:{" + concertId + ":0}";
+        String sequenceKey = "concert:queue:seq:{" + concertId + ":0}";
 
-        when(redissonClient.getScoredSortedSet(eq(key))).thenReturn((RScoredSortedSet) scoredSortedSet);
-        when(scoredSortedSet.getScore(userId)).thenReturn(null);
-        when(scoredSortedSet.rank(userId)).thenReturn(5);
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(rScript);
+        when(rScript.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), eq(List.of(key, sequenceKey)),
+                eq(userId)))
+                .thenReturn(5L);
 
         // When
         Long rank = queueService.registerQueue(concertId, userId);
 
-        // Then
+        // Then: 중복 확인 / 번호표 발급 / 등록 / 순번 조회가 스크립트 1회로 처리됨
         assertEquals(5L, rank);
-        verify(scoredSortedSet).add(anyDouble(), eq(userId));
+        verify(redissonClient, never()).getScoredSortedSet(anyString(), any());
+        verify(redissonClient, never()).getAtomicLong(anyString());
     }
 
     @Test
@@ -63,20 +73,21 @@ class QueueServiceTest {
         Long concertId = 1L;
         int count = 10;
         String userId = "user1";
-        String queueKey = "concert:queue:" + concertId;
-        String activeKey = "concert:active:" + concertId + ":" + userId;
+        String queueKey = "concert:queue:{" + concertId + ":0}";
+        String activeKey = "concert:active:{" + concertId + ":0}";
 
-        when(redissonClient.getScoredSortedSet(eq(queueKey))).thenReturn((RScoredSortedSet) scoredSortedSet);
-        when(scoredSortedSet.valueRange(0, count - 1)).thenReturn(Collections.singletonList(userId));
-        when(redissonClient.getBucket(activeKey)).thenReturn(rBucket);
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(rScript);
+        when(rScript.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), eq(List.of(queueKey, activeKey)),
+                eq(String.valueOf(count)), anyString()))
+                .thenReturn(List.of(3L, userId));
 
         // When
-        Set<String> result = queueService.allowEntry(concertId, count);
+        QueueService.Admission result = queueService.allowEntry(concertId, count);
 
         // Then
-        assertTrue(result.contains(userId));
-        verify(rBucket).set(eq("true"), any(Duration.class));
-        verify(scoredSortedSet).remove(userId);
+        assertTrue(result.userIds().contains(userId));
+        assertEquals(3L, result.activeCount());
+        verify(redissonClient, never()).getBucket(anyString()); // 유저별 개별 호출 없이 스크립트 1회
     }
 
     @Test
@@ -86,16 +97,42 @@ class QueueServiceTest {
         // Given
         Long concertId = 1L;
         String userId = "user1";
-        String key = "concert:queue:" + concertId;
+        String key = "concert:queue:{" + concertId + ":0}";
 
-        when(redissonClient.getScoredSortedSet(eq(key))).thenReturn((RScoredSortedSet) scoredSortedSet);
-        when(scoredSortedSet.rank(userId)).thenReturn(10);
+        when(redissonClient.getScoredSortedSet(eq(key), eq(StringCodec.INSTANCE))).thenReturn((RScoredSortedSet) scoredSortedSet);
+        when(scoredSortedSet.getScore(userId)).thenReturn(100.0);
+        when(scoredSortedSet.count(Double.NEGATIVE_INFINITY, true, 100.0, false)).thenReturn(10);
+        when(rateEstimator.admissionRate(concertId)).thenReturn(5.0);
 
         // When
         QueueStatusDto status = queueService.getQueueStatus(concertId, userId);
 
         // Then
         assertEquals(11L, status.getRank());
+        assertEquals(2L, status.getEstimatedSeconds()); // 11명 / 초당 5명
         assertFalse(status.isPass());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("샤드가 여러 개면 번호표 순으로 병합해서 전체 순번 계산")
+    @SuppressWarnings("unchecked")
+    void findRanks_MergesShardsByTicket() {
+        // Given
+        Long concertId = 1L;
+        ReflectionTestUtils.setField(queueService, "shardCount", 2);
+        RScoredSortedSet<String> shard0 = mock(RScoredSortedSet.class);
+        RScoredSortedSet<String> shard1 = mock(RScoredSortedSet.class);
+
+        when(redissonClient.getScoredSortedSet(eq("concert:queue:{1:0}"), eq(StringCodec.INSTANCE))).thenReturn((RScoredSortedSet) shard0);
+        when(redissonClient.getScoredSortedSet(eq("concert:queue:{1:1}"), eq(StringCodec.INSTANCE))).thenReturn((RScoredSortedSet) shard1);
+        when(shard0.entryRange(anyInt(), anyInt())).thenReturn(List.of(new ScoredEntry<>(1.0, "a"), new ScoredEntry<>(4.0, "d")));
+        when(shard1.entryRange(anyInt(), anyInt())).thenReturn(List.of(new ScoredEntry<>(2.0, "b"), new ScoredEntry<>(3.0, "c")));
+
+        // When
+        Map<String, Long> ranks = queueService.findRanks(concertId, Set.of("c", "d"));
+
+        // Then
+        assertEquals(3L, ranks.get("c"));
+        assertEquals(4L, ranks.get("d"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.dev.ticketing_system.service;
+
+import com.dev.ticketing_system.config.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitServiceTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RScript rScript;
+
+    private RateLimitProperties properties;
+    private RateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setLeaseSize(5);
+        rateLimitService = new RateLimitService(redissonClient, properties);
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(rScript);
+    }
+
+    @Test
+    @DisplayName("빌려온 토큰은 Redis 호출 없이 로컬에서 소진, 전역 예산이 바닥나면 window 동안 로컬에서 거절")
+    void tryAcquire_LeasesFromRedisOnlyWhenLocalTokensRunOut() {
+        // Given: 첫 lease 5개, 두 번째 lease 는 예산 소진
+        when(rScript.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                anyString(), anyString(), anyString()))
+                .thenReturn(5L, 0L);
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateLimitService.tryAcquire("127.0.0.1", "/api/seats/{seatId}/occupy"));
+        }
+        assertFalse(rateLimitService.tryAcquire("127.0.0.1", "/api/seats/{seatId}/occupy"));
+        assertFalse(rateLimitService.tryAcquire("127.0.0.1", "/api/seats/{seatId}/occupy"));
+
+        // 6번째 요청에서만 두 번째 lease, 이후는 Redis 호출 없음
+        verify(rScript, times(2)).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("라우트별 한도와 라우트 템플릿 기반 키 사용")
+    void tryAcquire_UsesRouteLimitAndTemplateKey() {
+        // Given
+        String route = "/api/seats/{seatId}/occupy";
+        properties.setRoutes(Map.of(route, 3L));
+        when(rScript.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                anyString(), anyString(), anyString()))
+                .thenReturn(3L);
+
+        // When
+        assertTrue(rateLimitService.tryAcquire("127.0.0.1", route));
+
+        // Then: lease 크기는 라우트 한도를 넘지 않음
+        verify(rScript).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                argThat((List<Object> keys) -> keys.size() == 1
+                        && keys.get(0).toString().startsWith("rate_limit:{127.0.0.1}:" + route + ":")),
+                eq("3"), eq("3"), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 노드 몫(한도 / expected-nodes)까지만 허용하고 이후 window 동안 거절")
+    void tryAcquire_FallbackIsCappedPerWindow() {
+        // Given: 한도 10, 노드 2대 → 노드 몫 5, lease 2개씩
+        String route = "/api/seats/{seatId}/occupy";
+        properties.setRoutes(Map.of(route, 10L));
+        properties.setExpectedNodes(2);
+        properties.setLeaseSize(2);
+        when(rScript.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                anyString(), anyString(), anyString()))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateLimitService.tryAcquire("127.0.0.1", route));
+        }
+        assertFalse(rateLimitService.tryAcquire("127.0.0.1", route));
+        assertFalse(rateLimitService.tryAcquire("127.0.0.1", route));
+    }
+}
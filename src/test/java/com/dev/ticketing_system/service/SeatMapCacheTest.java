@@ -0,0 +1,126 @@
+package com.dev.ticketing_system.service;
+
+import com.dev.ticketing_system.dto.SeatMapSnapshot;
+import com.dev.ticketing_system.entity.Seat;
+import com.dev.ticketing_system.repository.SeatRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.protocol.ScoredEntry;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatMapCacheTest {
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RAtomicLong versionCounter;
+
+    @Mock
+    private RScoredSortedSet<String> heldSet;
+
+    private SeatMapCache seatMapCache;
+
+    @BeforeEach
+    void setUp() {
+        seatMapCache = new SeatMapCache(seatRepository, redissonClient, new ObjectMapper());
+        when(redissonClient.getAtomicLong(anyString())).thenReturn(versionCounter);
+        when(redissonClient.<String>getScoredSortedSet(anyString(), any())).thenReturn(heldSet);
+    }
+
+    @Test
+    @DisplayName("로딩 / 재동기화 중 도착한 좌석 이벤트가 새 좌석 맵에 다시 반영")
+    void eventsDuringLoadAreReplayed() {
+        // Given
+        long heldUntil = System.currentTimeMillis() + 60_000;
+        List<Seat> seats = List.of(seat(10L, 1), seat(11L, 2));
+        when(versionCounter.get()).thenReturn(5L, 6L);
+        when(heldSet.entryRange(anyDouble(), anyBoolean(), anyDouble(), anyBoolean()))
+                .thenReturn(List.of(), List.of(new ScoredEntry<>((double) heldUntil, "10")));
+        when(seatRepository.findByConcertIdOrderBySeatNumberAsc(1L))
+                .thenAnswer(invocation -> {
+                    seatMapCache.applyEvent("H:1:10:" + heldUntil + ":6"); // 버전 5 를 읽은 뒤 발생한 선점
+                    return seats;
+                })
+                .thenAnswer(invocation -> {
+                    seatMapCache.applyEvent("H:1:11:" + heldUntil + ":7"); // 재동기화 중 발생한 선점
+                    return seats;
+                });
+
+        // When: 최초 로딩
+        ConcertSeatMap seatMap = seatMapCache.getOrLoad(1L);
+
+        // Then
+        long now = System.currentTimeMillis();
+        assertEquals(6L, seatMap.getVersion());
+        assertTrue(seatMap.isHeld(0, now));
+
+        // When: 재동기화
+        seatMapCache.resync();
+        ConcertSeatMap reloaded = seatMapCache.getOrLoad(1L);
+
+        // Then: 재동기화 도중의 선점도 반영되어 현재 맵과 같음 → 기존 맵 유지
+        assertSame(seatMap, reloaded);
+        assertEquals(7L, reloaded.getVersion());
+        assertTrue(reloaded.isHeld(0, now));
+        assertTrue(reloaded.isHeld(1, now));
+    }
+
+    @Test
+    @DisplayName("재동기화 결과가 같으면 epoch / ETag 유지, 어긋나면 같은 버전이어도 새 epoch 로 교체")
+    void resyncKeepsEpochUnlessDiverged() {
+        // Given
+        long heldUntil = System.currentTimeMillis() + 60_000;
+        List<Seat> seats = List.of(seat(10L, 1));
+        when(versionCounter.get()).thenReturn(5L);
+        when(heldSet.entryRange(anyDouble(), anyBoolean(), anyDouble(), anyBoolean()))
+                .thenReturn(List.of(), List.of(), List.of(new ScoredEntry<>((double) heldUntil, "10")));
+        when(seatRepository.findByConcertIdOrderBySeatNumberAsc(1L)).thenReturn(seats);
+
+        SeatMapSnapshot before = seatMapCache.getSnapshot(1L);
+
+        // When: 변화 없이 재동기화
+        seatMapCache.resync();
+        SeatMapSnapshot unchanged = seatMapCache.getSnapshot(1L);
+
+        // Then: 같은 스냅샷 / ETag, 증분 조회도 계속 가능
+        assertSame(before, unchanged);
+        assertNotNull(seatMapCache.getChanges(1L, before.epoch(), 5L));
+
+        // When: 이벤트 유실로 선점 좌석이 빠져 있던 상태에서 재동기화 (버전은 같음)
+        seatMapCache.resync();
+        SeatMapSnapshot after = seatMapCache.getSnapshot(1L);
+
+        // Then
+        assertEquals(before.version(), after.version());
+        assertNotEquals(before.epoch(), after.epoch());
+        assertNotEquals(before.etag(), after.etag());
+        assertNull(seatMapCache.getChanges(1L, before.epoch(), 5L));
+        assertNotNull(seatMapCache.getChanges(1L, after.epoch(), 5L));
+    }
+
+    private Seat seat(Long id, int seatNumber) {
+        Seat seat = mock(Seat.class);
+        when(seat.getId()).thenReturn(id);
+        when(seat.getSeatNumber()).thenReturn(seatNumber);
+        when(seat.getStatus()).thenReturn(Seat.SeatStatus.AVAILABLE);
+        return seat;
+    }
+}
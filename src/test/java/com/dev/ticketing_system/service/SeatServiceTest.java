@@ -1,7 +1,9 @@
 package com.dev.ticketing_system.service;
 
-import com.dev.ticketing_system.entity.Concert;
+import com.dev.ticketing_system.config.SeatCacheValueSerializer;
+import com.dev.ticketing_system.dto.SeatResponseDto;
 import com.dev.ticketing_system.entity.Seat;
+import com.dev.ticketing_system.exception.SeatAlreadyTakenException;
 import com.dev.ticketing_system.repository.SeatRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,14 +11,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RBucket;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.data.redis.core.RedisTemplate;
 
-import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -30,49 +29,135 @@ class SeatServiceTest {
     private SeatRepository seatRepository;
 
     @Mock
-    private RedissonClient redissonClient;
+    private RedisTemplate<String, SeatResponseDto> seatCacheRedisTemplate;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private SeatHoldEngine seatHoldEngine;
 
     @Mock
-    private RLock rLock;
+    private SeatMapCache seatMapCache;
 
     @Mock
-    private RBucket<Object> rBucket;
+    private SingleFlightLoader singleFlightLoader;
 
     @Test
-    @DisplayName("좌석 점유 성공 테스트 (Redisson)")
-    void occupySeat_Success() throws InterruptedException {
+    @DisplayName("좌석 점유 성공 테스트 (캐시 적중 시 DB 조회 없음)")
+    void occupySeat_Success() {
         // Given
         Long seatId = 1L;
         Long concertId = 1L;
         String userId = "user1";
-        String lockKey = "seat:lock:" + seatId;
-        String activeKey = lockKey + ":user";
 
-        // Redisson Mocks
-        when(redissonClient.getLock(lockKey)).thenReturn(rLock);
-        when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
-        when(redissonClient.getBucket(activeKey)).thenReturn(rBucket);
+        when(seatHoldEngine.holdAll(concertId, List.of(seatId), userId, true)).thenReturn(SeatHoldEngine.HoldResult.HELD);
+
+        // When
+        seatService.occupySeat(seatId, concertId, userId, "redisson");
+
+        // Then
+        verify(seatHoldEngine).holdAll(concertId, List.of(seatId), userId, true); // 스크립트 1회로 선점
+        verify(seatRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 좌석 캐시 재구성 후 선점 테스트")
+    void occupySeat_CacheMiss() {
+        // Given
+        Long seatId = 1L;
+        Long concertId = 1L;
+        String userId = "user1";
+
+        when(seatHoldEngine.holdAll(concertId, List.of(seatId), userId, true))
+                .thenReturn(SeatHoldEngine.HoldResult.NOT_CACHED)
+                .thenReturn(SeatHoldEngine.HoldResult.HELD);
 
-        // Repository Mocks
         Seat seat = mock(Seat.class);
-        Concert concert = mock(Concert.class);
-        when(seatRepository.findById(seatId)).thenReturn(Optional.of(seat));
-        when(seat.getConcert()).thenReturn(concert);
-        when(concert.getId()).thenReturn(concertId);
+        when(seat.getId()).thenReturn(seatId);
         when(seat.getStatus()).thenReturn(Seat.SeatStatus.AVAILABLE);
+        when(seatRepository.findByConcertIdOrderBySeatNumberAsc(concertId)).thenReturn(List.of(seat));
 
-        // RedisTemplate Mock (Assume cache miss to avoid opsForHash mocking complexity for this specific test)
-        when(redisTemplate.hasKey(anyString())).thenReturn(false);
+        doReturn(new SeatCacheValueSerializer()).when(seatCacheRedisTemplate).getHashValueSerializer();
+        when(singleFlightLoader.runExclusively(eq("seats:concert:{" + concertId + "}"), any())).thenAnswer(invocation -> {
+            invocation.getArgument(1, Runnable.class).run();
+            return true;
+        });
 
         // When
         seatService.occupySeat(seatId, concertId, userId, "redisson");
 
         // Then
-        verify(rLock).tryLock(0, 5, TimeUnit.MINUTES); // 락 시도 확인
-        verify(rBucket).set(userId, 5, TimeUnit.MINUTES); // 점유자 정보 저장 확인
-        verify(seatRepository).findById(seatId); // DB 조회 확인
+        verify(seatRepository).findByConcertIdOrderBySeatNumberAsc(concertId); // DB 조회 확인
+        verify(seatHoldEngine).mergeSeatCache(eq(concertId), anyMap(), any()); // SOLD 를 유지하는 병합 (putAll 덮어쓰기 아님)
+        verify(seatCacheRedisTemplate, never()).opsForHash();
+        verify(seatHoldEngine, times(2)).holdAll(concertId, List.of(seatId), userId, true);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 다른 노드가 재구성 중이면 DB 조회 없이 재구성 완료를 기다렸다가 선점")
+    void occupySeat_CacheMiss_WaitsForOtherRebuild() {
+        // Given
+        Long concertId = 1L;
+        when(seatHoldEngine.holdAll(concertId, List.of(1L), "user1", true))
+                .thenReturn(SeatHoldEngine.HoldResult.NOT_CACHED)
+                .thenReturn(SeatHoldEngine.HoldResult.HELD);
+        when(singleFlightLoader.runExclusively(eq("seats:concert:{" + concertId + "}"), any())).thenReturn(false);
+        when(singleFlightLoader.await(any(), any())).thenReturn(true);
+
+        // When
+        seatService.occupySeat(1L, concertId, "user1", "redisson");
+
+        // Then
+        verify(seatRepository, never()).findByConcertIdOrderBySeatNumberAsc(anyLong());
+        verify(seatHoldEngine, times(2)).holdAll(concertId, List.of(1L), "user1", true);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 좌석(다른 공연 / 잘못된 ID)은 캐시 재구성 없이 바로 거절")
+    void occupySeat_UnknownSeat_NoRebuild() {
+        // Given
+        when(seatHoldEngine.holdAll(1L, List.of(999L), "user1", true)).thenReturn(SeatHoldEngine.HoldResult.UNKNOWN_SEAT);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () ->
+                seatService.occupySeat(999L, 1L, "user1", "redisson")
+        );
+        verify(seatHoldEngine, times(1)).holdAll(1L, List.of(999L), "user1", true);
+        verifyNoInteractions(seatRepository);
+    }
+
+    @Test
+    @DisplayName("이미 선점된 좌석 점유 시 예외 발생 테스트")
+    void occupySeat_AlreadyHeld() {
+        // Given
+        when(seatHoldEngine.holdAll(1L, List.of(1L), "user2", true)).thenReturn(SeatHoldEngine.HoldResult.ALREADY_HELD);
+
+        // When & Then
+        assertThrows(SeatAlreadyTakenException.class, () ->
+                seatService.occupySeat(1L, 1L, "user2", "redisson")
+        );
+    }
+
+    @Test
+    @DisplayName("일행 예매 좌석 일괄 선점 테스트 (스크립트 1회)")
+    void holdSeats_Batch() {
+        // Given
+        Long concertId = 1L;
+        List<Long> seatIds = List.of(1L, 2L, 3L, 4L);
+
+        when(seatHoldEngine.holdAll(concertId, seatIds, "user1", true)).thenReturn(SeatHoldEngine.HoldResult.HELD);
+
+        // When
+        seatService.holdSeats(seatIds, concertId, "user1");
+
+        // Then
+        verify(seatHoldEngine, times(1)).holdAll(concertId, seatIds, "user1", true);
+    }
+
+    @Test
+    @DisplayName("일행 예매 최대 좌석 수 초과 시 예외 발생 테스트")
+    void holdSeats_TooManySeats() {
+        assertThrows(IllegalArgumentException.class, () ->
+                seatService.holdSeats(List.of(1L, 2L, 3L, 4L, 5L), 1L, "user1")
+        );
+        verifyNoInteractions(seatHoldEngine);
     }
 }